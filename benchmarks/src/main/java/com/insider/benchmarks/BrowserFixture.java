@@ -0,0 +1,66 @@
+package com.insider.benchmarks;
+
+import com.insider.localsite.LocalInsiderSite;
+import org.openqa.selenium.By;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.chrome.ChromeDriver;
+import org.openqa.selenium.chrome.ChromeOptions;
+import org.openqa.selenium.support.ui.WebDriverWait;
+
+import java.io.File;
+import java.time.Duration;
+
+final class BrowserFixture implements AutoCloseable {
+
+    private final LocalInsiderSite site;
+    private final WebDriver driver;
+
+    BrowserFixture(int jobCount) {
+        site = new LocalInsiderSite(jobCount, 0, 42);
+        site.start(0);
+
+        File chromeDriver = new File(System.getProperty("user.dir"), "web_driver/chromedriver");
+        if (chromeDriver.canExecute()) {
+            System.setProperty("webdriver.chrome.driver", chromeDriver.getAbsolutePath());
+        }
+        ChromeOptions options = new ChromeOptions();
+        options.addArguments("--headless=new");
+        options.addArguments("--no-sandbox");
+        options.addArguments("--disable-dev-shm-usage");
+        options.addArguments("--disable-gpu");
+        options.addArguments("--window-size=1920,1080");
+        driver = new ChromeDriver(options);
+    }
+
+    WebDriver driver() {
+        return driver;
+    }
+
+    void open(String path) {
+        driver.get(site.getBaseUrl() + path);
+    }
+
+    void openJobsList(int expectedJobs) {
+        open("/careers/open-positions/");
+        new WebDriverWait(driver, Duration.ofSeconds(60)).until(webDriver ->
+            ((Number) ((JavascriptExecutor) webDriver)
+                .executeScript("return document.querySelectorAll('.position-list-item').length;"))
+                .intValue() >= expectedJobs);
+    }
+
+    void openCareers() {
+        open("/careers/");
+        new WebDriverWait(driver, Duration.ofSeconds(30))
+            .until(webDriver -> !webDriver.findElements(By.cssSelector("div.swiper-wrapper")).isEmpty());
+    }
+
+    @Override
+    public void close() {
+        try {
+            driver.quit();
+        } finally {
+            site.stop();
+        }
+    }
+}
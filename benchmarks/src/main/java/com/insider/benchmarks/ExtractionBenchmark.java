@@ -0,0 +1,94 @@
+package com.insider.benchmarks;
+
+import com.insider.pages.JobListingSnapshot;
+import com.insider.pages.QACareersPage;
+import org.openqa.selenium.By;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebElement;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(value = 1, jvmArgsAppend = "-Dstep.timings.enabled=false")
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 3, time = 5)
+public class ExtractionBenchmark {
+
+    private static final By JOB_POSITIONS = By.cssSelector(".position-list-item .position-title");
+
+    @Param({"10", "100", "1000"})
+    public int jobCount;
+
+    private BrowserFixture fixture;
+    private QACareersPage qaCareersPage;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        fixture = new BrowserFixture(jobCount);
+        fixture.openJobsList(jobCount);
+        qaCareersPage = new QACareersPage(fixture.driver());
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        fixture.close();
+    }
+
+    @Benchmark
+    public List<String> perElementGetText() {
+        List<String> titles = new ArrayList<>();
+        for (WebElement position : fixture.driver().findElements(JOB_POSITIONS)) {
+            titles.add(position.getText());
+        }
+        return titles;
+    }
+
+    @Benchmark
+    public List<String> perElementTextContentScript() {
+        JavascriptExecutor js = (JavascriptExecutor) fixture.driver();
+        List<String> titles = new ArrayList<>();
+        for (WebElement position : fixture.driver().findElements(JOB_POSITIONS)) {
+            titles.add((String) js.executeScript("return arguments[0].textContent;", position));
+        }
+        return titles;
+    }
+
+    @Benchmark
+    public List<String> refindPerIndexGetText() {
+        List<String> titles = new ArrayList<>();
+        int count = fixture.driver().findElements(JOB_POSITIONS).size();
+        for (int i = 0; i < count; i++) {
+            titles.add(fixture.driver().findElements(JOB_POSITIONS).get(i).getText());
+        }
+        return titles;
+    }
+
+    @Benchmark
+    public Object bulkTextContentScript() {
+        return ((JavascriptExecutor) fixture.driver()).executeScript(
+            "return Array.prototype.map.call(document.querySelectorAll('.position-list-item .position-title'),"
+                + " function (el) { return el.textContent; });");
+    }
+
+    @Benchmark
+    public JobListingSnapshot bulkJobListingSnapshot() {
+        return qaCareersPage.getJobListingSnapshot();
+    }
+}
@@ -0,0 +1,72 @@
+package com.insider.benchmarks;
+
+import org.openqa.selenium.By;
+import org.openqa.selenium.WebElement;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(value = 1, jvmArgsAppend = "-Dstep.timings.enabled=false")
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class LocatorBenchmark {
+
+    private static final By XPATH_HEADING = By.xpath("//h3[contains(text(), 'Our Locations')]");
+    private static final By CSS_SECTION_HEADING = By.cssSelector("#career-our-location h3");
+    private static final By CSS_ATTRIBUTE_EQUALITY = By.cssSelector("div[class='job-image text-center']");
+    private static final By CSS_CLASS_SELECTOR = By.cssSelector("div.job-image.text-center");
+    private static final By XPATH_CLASS_CONTAINS = By.xpath("//div[contains(@class, 'job-image')]");
+
+    private BrowserFixture fixture;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        fixture = new BrowserFixture(10);
+        fixture.openCareers();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        fixture.close();
+    }
+
+    @Benchmark
+    public WebElement xpathTextContainsHeading() {
+        return fixture.driver().findElement(XPATH_HEADING);
+    }
+
+    @Benchmark
+    public WebElement cssScopedHeading() {
+        return fixture.driver().findElement(CSS_SECTION_HEADING);
+    }
+
+    @Benchmark
+    public List<WebElement> cssAttributeEquality() {
+        return fixture.driver().findElements(CSS_ATTRIBUTE_EQUALITY);
+    }
+
+    @Benchmark
+    public List<WebElement> cssClassSelector() {
+        return fixture.driver().findElements(CSS_CLASS_SELECTOR);
+    }
+
+    @Benchmark
+    public List<WebElement> xpathClassContains() {
+        return fixture.driver().findElements(XPATH_CLASS_CONTAINS);
+    }
+}
@@ -0,0 +1,29 @@
+package com.insider.listeners;
+
+import com.insider.utils.CheckpointedFlow;
+import com.insider.utils.TestConfig;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.testng.IRetryAnalyzer;
+import org.testng.ITestResult;
+
+public class CheckpointRetryAnalyzer implements IRetryAnalyzer {
+
+    private static final Logger logger = LoggerFactory.getLogger(CheckpointRetryAnalyzer.class);
+
+    private int attempts;
+
+    @Override
+    public boolean retry(ITestResult result) {
+        String flowKey = CheckpointedFlow.testKey(result);
+        if (attempts >= TestConfig.getRetryMaxAttempts()) {
+            CheckpointedFlow.clearCheckpoint(flowKey);
+            return false;
+        }
+        attempts++;
+        logger.warn("Retrying {} (attempt {}/{}) from checkpoint {} after: {}", flowKey, attempts,
+            TestConfig.getRetryMaxAttempts(), CheckpointedFlow.getCheckpoint(flowKey),
+            result.getThrowable() == null ? "unknown failure" : result.getThrowable().getMessage());
+        return true;
+    }
+}
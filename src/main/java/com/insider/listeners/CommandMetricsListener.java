@@ -0,0 +1,25 @@
+package com.insider.listeners;
+
+import com.insider.utils.CommandMetrics;
+import com.insider.utils.TestConfig;
+import org.testng.IInvokedMethod;
+import org.testng.IInvokedMethodListener;
+import org.testng.ITestResult;
+
+public class CommandMetricsListener implements IInvokedMethodListener {
+
+    @Override
+    public void beforeInvocation(IInvokedMethod method, ITestResult testResult) {
+        if (method.isTestMethod() && TestConfig.isDriverMetricsEnabled()) {
+            CommandMetrics.startTest(testResult.getTestClass().getRealClass().getSimpleName()
+                + "." + method.getTestMethod().getMethodName());
+        }
+    }
+
+    @Override
+    public void afterInvocation(IInvokedMethod method, ITestResult testResult) {
+        if (method.isTestMethod()) {
+            CommandMetrics.finishTest();
+        }
+    }
+}
@@ -0,0 +1,24 @@
+package com.insider.listeners;
+
+import com.insider.utils.DriverManager;
+import com.insider.utils.TestConfig;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.testng.ISuite;
+import org.testng.ISuiteListener;
+
+public class DriverPreWarmListener implements ISuiteListener {
+
+    private static final Logger logger = LoggerFactory.getLogger(DriverPreWarmListener.class);
+
+    @Override
+    public void onStart(ISuite suite) {
+        if (!TestConfig.isDriverPreWarmEnabled()) {
+            return;
+        }
+        int sessionCount = TestConfig.getDriverPreWarmCount();
+        logger.info("Suite '{}' pre-warming {} {} session(s) in the background",
+            suite.getName(), sessionCount, TestConfig.getBrowser());
+        DriverManager.preWarm(TestConfig.getBrowser(), sessionCount);
+    }
+}
@@ -0,0 +1,38 @@
+package com.insider.listeners;
+
+import com.insider.utils.DriverManager;
+import com.insider.utils.FailureArtifacts;
+import org.testng.IInvokedMethod;
+import org.testng.IInvokedMethodListener;
+import org.testng.ISuite;
+import org.testng.ISuiteListener;
+import org.testng.ITestResult;
+
+public class FailureArtifactListener implements IInvokedMethodListener, ISuiteListener {
+
+    private static final long FLUSH_TIMEOUT_MILLIS = 30_000;
+
+    @Override
+    public void beforeInvocation(IInvokedMethod method, ITestResult testResult) {
+        if (method.isTestMethod()) {
+            FailureArtifacts.startTest(testResult.getTestClass().getRealClass().getSimpleName()
+                + "." + method.getTestMethod().getMethodName());
+        }
+    }
+
+    @Override
+    public void afterInvocation(IInvokedMethod method, ITestResult testResult) {
+        if (!method.isTestMethod()) {
+            return;
+        }
+        if (testResult.getStatus() == ITestResult.FAILURE && !FailureArtifacts.hasCapturedForCurrentTest()) {
+            FailureArtifacts.capture(DriverManager.getDriver(), "test-failure", testResult.getThrowable());
+        }
+        FailureArtifacts.finishTest();
+    }
+
+    @Override
+    public void onFinish(ISuite suite) {
+        FailureArtifacts.awaitPendingWrites(FLUSH_TIMEOUT_MILLIS);
+    }
+}
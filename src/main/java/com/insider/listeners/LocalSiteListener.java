@@ -0,0 +1,35 @@
+package com.insider.listeners;
+
+import com.insider.localsite.LocalInsiderSite;
+import com.insider.utils.TestConfig;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.testng.ISuite;
+import org.testng.ISuiteListener;
+
+public class LocalSiteListener implements ISuiteListener {
+
+    private static final Logger logger = LoggerFactory.getLogger(LocalSiteListener.class);
+
+    private LocalInsiderSite site;
+
+    @Override
+    public void onStart(ISuite suite) {
+        if (!TestConfig.isLocalSiteEnabled()) {
+            return;
+        }
+        site = new LocalInsiderSite(TestConfig.getLocalSiteJobCount(),
+            TestConfig.getLocalSiteLatencyMillis(), TestConfig.getLocalSiteSeed());
+        site.start(TestConfig.getLocalSitePort());
+        System.setProperty("base.url", site.getBaseUrl());
+        logger.info("Suite '{}' will run against local site {}", suite.getName(), site.getBaseUrl());
+    }
+
+    @Override
+    public void onFinish(ISuite suite) {
+        if (site != null) {
+            site.stop();
+            site = null;
+        }
+    }
+}
@@ -0,0 +1,27 @@
+package com.insider.listeners;
+
+import com.insider.utils.TestConfig;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.testng.IAlterSuiteListener;
+import org.testng.xml.XmlSuite;
+
+import java.util.List;
+
+public class ParallelExecutionListener implements IAlterSuiteListener {
+
+    private static final Logger logger = LoggerFactory.getLogger(ParallelExecutionListener.class);
+
+    @Override
+    public void alter(List<XmlSuite> suites) {
+        String mode = TestConfig.getParallelMode();
+        int threadCount = TestConfig.getThreadCount();
+
+        for (XmlSuite suite : suites) {
+            suite.setParallel(XmlSuite.ParallelMode.getValidParallel(mode));
+            suite.setThreadCount(threadCount);
+            logger.info("Suite '{}' configured with parallel mode '{}' and {} thread(s)",
+                suite.getName(), mode, TestConfig.isParallelEnabled() ? threadCount : 1);
+        }
+    }
+}
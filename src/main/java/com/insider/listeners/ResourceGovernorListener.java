@@ -0,0 +1,44 @@
+package com.insider.listeners;
+
+import com.insider.utils.DriverManager;
+import com.insider.utils.ResourceGovernor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.testng.IInvokedMethod;
+import org.testng.IInvokedMethodListener;
+import org.testng.ISuite;
+import org.testng.ISuiteListener;
+import org.testng.ITestResult;
+
+public class ResourceGovernorListener implements ISuiteListener, IInvokedMethodListener {
+
+    private static final Logger logger = LoggerFactory.getLogger(ResourceGovernorListener.class);
+    private static final Logger testResultsLogger = LoggerFactory.getLogger("TEST_RESULTS");
+
+    @Override
+    public void onStart(ISuite suite) {
+        ResourceGovernor.reapOrphans();
+    }
+
+    @Override
+    public void beforeInvocation(IInvokedMethod method, ITestResult testResult) {
+        if (method.isTestMethod()) {
+            ResourceGovernor.startTest(DriverManager.getDriver());
+        }
+    }
+
+    @Override
+    public void afterInvocation(IInvokedMethod method, ITestResult testResult) {
+        if (!method.isTestMethod()) {
+            return;
+        }
+        ResourceGovernor.SessionUsage usage = ResourceGovernor.finishTest(DriverManager.getDriver());
+        if (usage == null) {
+            return;
+        }
+        String testName = testResult.getTestClass().getRealClass().getSimpleName() + "." + method.getTestMethod().getMethodName();
+        logger.info("Browser resources for '{}': peak {} MB, now {} MB, session CPU {} ms (pid {})", testName,
+            usage.getTestPeakRssKb() / 1024, usage.getCurrentRssKb() / 1024, usage.getCpuMillis(), usage.getPid());
+        testResultsLogger.info("PEAK MEMORY: {} - {} MB", testName, usage.getTestPeakRssKb() / 1024);
+    }
+}
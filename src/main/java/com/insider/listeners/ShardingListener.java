@@ -0,0 +1,75 @@
+package com.insider.listeners;
+
+import com.insider.sharding.ShardPlanner;
+import com.insider.sharding.TestDurationHistory;
+import com.insider.utils.TestConfig;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.testng.IInvokedMethod;
+import org.testng.IInvokedMethodListener;
+import org.testng.IMethodInstance;
+import org.testng.IMethodInterceptor;
+import org.testng.ISuite;
+import org.testng.ISuiteListener;
+import org.testng.ITestContext;
+import org.testng.ITestNGMethod;
+import org.testng.ITestResult;
+
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+public class ShardingListener implements IMethodInterceptor, IInvokedMethodListener, ISuiteListener {
+
+    private static final Logger logger = LoggerFactory.getLogger(ShardingListener.class);
+
+    private final Map<String, Long> observedDurations = new ConcurrentHashMap<>();
+
+    public static String testKey(ITestNGMethod method) {
+        return method.getRealClass().getName() + "#" + method.getMethodName();
+    }
+
+    @Override
+    public List<IMethodInstance> intercept(List<IMethodInstance> methods, ITestContext context) {
+        int shardCount = TestConfig.getShardCount();
+        if (shardCount <= 1) {
+            return methods;
+        }
+        int shardIndex = TestConfig.getShardIndex();
+        if (shardIndex < 0 || shardIndex >= shardCount) {
+            throw new IllegalArgumentException("Shard index " + shardIndex + " is outside 0.." + (shardCount - 1));
+        }
+
+        List<String> testKeys = methods.stream().map(instance -> testKey(instance.getMethod())).distinct().toList();
+        List<ShardPlanner.Shard> plan = ShardPlanner.plan(testKeys, shardCount,
+            TestDurationHistory.load(Path.of(TestConfig.getShardHistoryFile())), TestConfig.getShardDefaultMillis());
+        ShardPlanner.Shard shard = plan.get(shardIndex);
+        Set<String> selected = Set.copyOf(shard.testKeys());
+
+        logger.info("Shard {}/{} runs {} of {} test(s), estimated {} ms: {}", shardIndex + 1, shardCount,
+            shard.testKeys().size(), testKeys.size(), shard.estimatedMillis(), shard.testKeys());
+        return methods.stream().filter(instance -> selected.contains(testKey(instance.getMethod()))).toList();
+    }
+
+    @Override
+    public void afterInvocation(IInvokedMethod method, ITestResult testResult) {
+        if (method.isTestMethod() && testResult.getStatus() != ITestResult.SKIP) {
+            observedDurations.merge(testKey(method.getTestMethod()),
+                testResult.getEndMillis() - testResult.getStartMillis(), Long::sum);
+        }
+    }
+
+    @Override
+    public void onFinish(ISuite suite) {
+        if (observedDurations.isEmpty()) {
+            return;
+        }
+        Path output = Path.of(TestConfig.getShardDurationsOutput());
+        TestDurationHistory history = TestDurationHistory.load(output);
+        history.merge(observedDurations);
+        history.save(output);
+        logger.info("Recorded {} test duration(s) to {}", observedDurations.size(), output);
+    }
+}
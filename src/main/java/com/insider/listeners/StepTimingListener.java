@@ -0,0 +1,142 @@
+package com.insider.listeners;
+
+import com.insider.utils.StepTimingBaseline;
+import com.insider.utils.StepTimings;
+import com.insider.utils.TestConfig;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.testng.IInvokedMethod;
+import org.testng.IInvokedMethodListener;
+import org.testng.ISuite;
+import org.testng.ISuiteListener;
+import org.testng.ITestResult;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+public class StepTimingListener implements ISuiteListener, IInvokedMethodListener {
+
+    private static final Logger logger = LoggerFactory.getLogger(StepTimingListener.class);
+    private static final Logger testResultsLogger = LoggerFactory.getLogger("TEST_RESULTS");
+
+    @Override
+    public void beforeInvocation(IInvokedMethod method, ITestResult testResult) {
+        if (method.isTestMethod()) {
+            StepTimings.setCurrentTest(method.getTestMethod().getMethodName());
+        }
+    }
+
+    @Override
+    public void afterInvocation(IInvokedMethod method, ITestResult testResult) {
+        if (method.isTestMethod()) {
+            StepTimings.clearCurrentTest();
+        }
+    }
+
+    @Override
+    public void onFinish(ISuite suite) {
+        if (!TestConfig.isStepTimingEnabled()) {
+            return;
+        }
+        List<StepTimings.StepTiming> currentRun = StepTimings.drain();
+        if (currentRun.isEmpty()) {
+            return;
+        }
+
+        Path directory = Path.of(TestConfig.getStepTimingDir());
+        List<Path> previousRuns = listPreviousRuns(directory);
+        Path runFile = StepTimings.writeRun(directory, currentRun);
+        logger.info("Wrote {} step timings to {}", currentRun.size(), runFile);
+
+        List<List<StepTimings.StepTiming>> previousTimings = new ArrayList<>();
+        for (Path previousRun : previousRuns) {
+            try {
+                previousTimings.add(StepTimings.readRun(previousRun));
+            } catch (UncheckedIOException e) {
+                logger.debug("Skipping unreadable step timing run {}: {}", previousRun, e.getMessage());
+                previousTimings.add(List.of());
+            }
+        }
+        StepTimingBaseline baseline = StepTimingBaseline.fromRuns(previousTimings, TestConfig.getStepTimingHistory());
+        List<Path> baselineRuns = new ArrayList<>();
+        List<Path> staleRuns = new ArrayList<>();
+        for (int i = 0; i < previousRuns.size(); i++) {
+            Path previousRun = previousRuns.get(i);
+            if (baseline.usesRun(i)) {
+                baselineRuns.add(previousRun);
+            } else if (directory.equals(previousRun.getParent())) {
+                staleRuns.add(previousRun);
+            }
+        }
+        report(directory, baseline, currentRun, baselineRuns.size());
+        pruneHistory(staleRuns);
+    }
+
+    private static List<Path> listPreviousRuns(Path directory) {
+        List<Path> runs = new ArrayList<>(StepTimings.listRuns(directory));
+        Path shardsRoot = directory.getParent();
+        if (TestConfig.getShardCount() > 1 && shardsRoot != null) {
+            try (var siblings = Files.newDirectoryStream(shardsRoot, "shard-*")) {
+                for (Path sibling : siblings) {
+                    if (!sibling.equals(directory)) {
+                        runs.addAll(StepTimings.listRuns(sibling));
+                    }
+                }
+            } catch (IOException e) {
+                logger.warn("Failed to list step timing runs of other shards in {}: {}", shardsRoot, e.getMessage());
+            }
+        }
+        runs.sort(Comparator.comparing(Path::getFileName));
+        return runs;
+    }
+
+    private void report(Path directory, StepTimingBaseline baseline, List<StepTimings.StepTiming> currentRun, int baselineRunCount) {
+        List<String> lines = new ArrayList<>();
+        lines.add("Step timing report - baseline runs: " + baselineRunCount
+            + " | threshold: " + Math.round(TestConfig.getStepRegressionThreshold() * 100) + "%");
+        baseline.getStats().values().forEach(stats -> lines.add(String.format("BASELINE %s | samples: %d | median: %d ms | p95: %d ms",
+            stats.key(), stats.samples(), stats.medianMillis(), stats.p95Millis())));
+
+        if (baseline.isEmpty()) {
+            lines.add("No previous runs found - this run becomes the baseline");
+        } else {
+            List<StepTimingBaseline.StepRegression> regressions = baseline.findRegressions(currentRun,
+                TestConfig.getStepRegressionThreshold(), TestConfig.getStepRegressionMinDeltaMillis());
+            for (StepTimingBaseline.StepRegression regression : regressions) {
+                String message = String.format("REGRESSION %s | median: %d ms -> %d ms (+%d%%) | baseline p95: %d ms",
+                    regression.key(), regression.baseline().medianMillis(), regression.currentMedianMillis(),
+                    Math.round(regression.getSlowdown() * 100), regression.baseline().p95Millis());
+                lines.add(message);
+                logger.warn(message);
+                testResultsLogger.warn("⚠ SLOW STEP: {}", message);
+            }
+            if (regressions.isEmpty()) {
+                lines.add("No step regressions detected");
+                logger.info("No step timing regressions against {} previous run(s)", baselineRunCount);
+            }
+        }
+
+        Path reportFile = directory.resolve("regression-report.txt");
+        try {
+            Files.write(reportFile, lines, StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            logger.warn("Failed to write step timing report {}: {}", reportFile, e.getMessage());
+        }
+    }
+
+    private void pruneHistory(List<Path> staleRuns) {
+        for (Path staleRun : staleRuns) {
+            try {
+                Files.deleteIfExists(staleRun);
+            } catch (IOException e) {
+                logger.warn("Failed to prune old step timing run {}: {}", staleRun, e.getMessage());
+            }
+        }
+    }
+}
@@ -0,0 +1,54 @@
+package com.insider.localsite;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+public class JobListingGenerator {
+
+    public record Job(int id, String title, String department, String location) {
+    }
+
+    public static final String QA_DEPARTMENT = "Quality Assurance";
+    public static final String ISTANBUL = "Istanbul, Turkiye";
+
+    private static final String[] LOCATIONS = {
+        ISTANBUL, "London, United Kingdom", "New York, US", "Paris, France",
+        "Amsterdam, Netherlands", "Singapore, Singapore", "Dubai, UAE", "Barcelona, Spain"
+    };
+
+    private static final String[][] DEPARTMENT_TITLES = {
+        {QA_DEPARTMENT, "Senior QA Engineer", "Quality Assurance Specialist",
+            "Software Quality Assurance Engineer", "QA Automation Engineer"},
+        {"Software Development", "Backend Engineer", "Frontend Engineer", "Full Stack Developer"},
+        {"Sales", "Account Executive", "Sales Development Representative"},
+        {"Marketing", "Product Marketing Manager", "Content Marketing Specialist"},
+        {"Customer Success", "Customer Success Manager", "Technical Account Manager"},
+        {"Product", "Product Manager", "Product Designer"}
+    };
+
+    private final long seed;
+
+    public JobListingGenerator(long seed) {
+        this.seed = seed;
+    }
+
+    public List<Job> generate(int count) {
+        Random random = new Random(seed);
+        List<Job> jobs = new ArrayList<>(count);
+        for (int id = 1; id <= count; id++) {
+            String[] titles;
+            String location;
+            if (id == 1) {
+                titles = DEPARTMENT_TITLES[0];
+                location = ISTANBUL;
+            } else {
+                titles = DEPARTMENT_TITLES[random.nextInt(DEPARTMENT_TITLES.length)];
+                location = LOCATIONS[random.nextInt(LOCATIONS.length)];
+            }
+            String title = titles[1 + random.nextInt(titles.length - 1)];
+            jobs.add(new Job(id, title, titles[0], location));
+        }
+        return jobs;
+    }
+}
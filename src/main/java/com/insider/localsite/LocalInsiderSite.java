@@ -0,0 +1,169 @@
+package com.insider.localsite;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+public class LocalInsiderSite {
+
+    private static final Logger logger = LoggerFactory.getLogger(LocalInsiderSite.class);
+
+    private final List<JobListingGenerator.Job> jobs;
+    private final long latencyMillis;
+    private HttpServer server;
+    private ExecutorService executor;
+
+    public LocalInsiderSite(int jobCount, long latencyMillis, long seed) {
+        this.jobs = new JobListingGenerator(seed).generate(jobCount);
+        this.latencyMillis = latencyMillis;
+    }
+
+    public synchronized void start(int port) {
+        if (server != null) {
+            throw new IllegalStateException("Local Insider site is already running on " + getBaseUrl());
+        }
+        try {
+            server = HttpServer.create(new InetSocketAddress("127.0.0.1", port), 0);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to start local Insider site on port " + port, e);
+        }
+        executor = Executors.newCachedThreadPool();
+        server.setExecutor(executor);
+        server.createContext("/", this::handle);
+        server.start();
+        logger.info("Local Insider site started at {} with {} jobs and {}ms latency", getBaseUrl(), jobs.size(), latencyMillis);
+    }
+
+    public synchronized void stop() {
+        if (server != null) {
+            server.stop(0);
+            executor.shutdownNow();
+            logger.info("Local Insider site at {} stopped", getBaseUrl());
+            server = null;
+            executor = null;
+        }
+    }
+
+    public String getBaseUrl() {
+        return "http://127.0.0.1:" + server.getAddress().getPort();
+    }
+
+    public List<JobListingGenerator.Job> getJobs() {
+        return jobs;
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        try {
+            simulateLatency();
+            String path = exchange.getRequestURI().getPath();
+            if (path.equals("/") || path.equals("/index.html")) {
+                respond(exchange, 200, "text/html", template("home.html"));
+            } else if (path.equals("/careers/") || path.equals("/careers")) {
+                respond(exchange, 200, "text/html", template("careers.html"));
+            } else if (path.startsWith("/careers/quality-assurance")) {
+                respond(exchange, 200, "text/html", template("qa-careers.html"));
+            } else if (path.startsWith("/careers/open-positions")) {
+                respond(exchange, 200, "text/html", template("open-positions.html"));
+            } else if (path.equals("/api/jobs")) {
+                respond(exchange, 200, "application/json", jobsJson());
+            } else if (path.startsWith("/apply/")) {
+                exchange.getResponseHeaders().set("Location", "/lever/" + path.substring("/apply/".length()));
+                exchange.sendResponseHeaders(302, -1);
+            } else if (path.startsWith("/lever/")) {
+                handleLeverPage(exchange, path.substring("/lever/".length()));
+            } else {
+                respond(exchange, 404, "text/plain", "Not found: " + path);
+            }
+        } finally {
+            exchange.close();
+        }
+    }
+
+    private void handleLeverPage(HttpExchange exchange, String jobId) throws IOException {
+        JobListingGenerator.Job job = jobs.stream()
+            .filter(candidate -> String.valueOf(candidate.id()).equals(jobId))
+            .findFirst()
+            .orElse(null);
+        if (job == null) {
+            respond(exchange, 404, "text/plain", "Unknown job: " + jobId);
+            return;
+        }
+        String html = template("lever.html")
+            .replace("{{title}}", escapeHtml(job.title()))
+            .replace("{{department}}", escapeHtml(job.department()))
+            .replace("{{location}}", escapeHtml(job.location()));
+        respond(exchange, 200, "text/html", html);
+    }
+
+    private String jobsJson() {
+        StringBuilder json = new StringBuilder(jobs.size() * 128).append('[');
+        for (int i = 0; i < jobs.size(); i++) {
+            JobListingGenerator.Job job = jobs.get(i);
+            if (i > 0) {
+                json.append(',');
+            }
+            json.append("{\"id\":").append(job.id())
+                .append(",\"title\":\"").append(escapeJson(job.title()))
+                .append("\",\"department\":\"").append(escapeJson(job.department()))
+                .append("\",\"location\":\"").append(escapeJson(job.location()))
+                .append("\"}");
+        }
+        return json.append(']').toString();
+    }
+
+    private void simulateLatency() {
+        if (latencyMillis > 0) {
+            try {
+                Thread.sleep(latencyMillis);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    private static void respond(HttpExchange exchange, int status, String contentType, String body) throws IOException {
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", contentType + "; charset=utf-8");
+        exchange.sendResponseHeaders(status, bytes.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+
+    private static String template(String name) {
+        try (InputStream in = LocalInsiderSite.class.getResourceAsStream("/localsite/" + name)) {
+            if (in == null) {
+                throw new IllegalStateException("Missing local site template: " + name);
+            }
+            return new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to read local site template: " + name, e);
+        }
+    }
+
+    private static String escapeJson(String value) {
+        return value.replace("\\", "\\\\").replace("\"", "\\\"");
+    }
+
+    private static String escapeHtml(String value) {
+        return value.replace("&", "&amp;").replace("<", "&lt;").replace(">", "&gt;");
+    }
+
+    public static void main(String[] args) {
+        int port = args.length > 0 ? Integer.parseInt(args[0]) : 8080;
+        int jobCount = args.length > 1 ? Integer.parseInt(args[1]) : 50;
+        long latency = args.length > 2 ? Long.parseLong(args[2]) : 0;
+        new LocalInsiderSite(jobCount, latency, 42).start(port);
+    }
+}
@@ -1,31 +1,146 @@
 package com.insider.pages;
 
+import com.insider.utils.AdaptiveWait;
+import com.insider.utils.FailureArtifacts;
+import com.insider.utils.SessionState;
+import com.insider.utils.StepTimings;
+import com.insider.utils.TestConfig;
+import org.openqa.selenium.JavascriptExecutor;
 import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.WebElement;
-import org.openqa.selenium.support.ui.WebDriverWait;
+import org.openqa.selenium.support.ui.ExpectedCondition;
 import org.openqa.selenium.support.ui.ExpectedConditions;
 import org.openqa.selenium.By;
 import org.openqa.selenium.TimeoutException;
 import org.openqa.selenium.NoSuchElementException;
+import org.openqa.selenium.StaleElementReferenceException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.slf4j.helpers.MessageFormatter;
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.BooleanSupplier;
+import java.util.function.Supplier;
 
 public class BasePage {
     protected WebDriver driver;
-    protected WebDriverWait wait;
+    protected AdaptiveWait wait;
+    private DomSnapshot domSnapshot;
     protected static final Logger logger = LoggerFactory.getLogger(BasePage.class);
+    protected static final String COOKIE_CONSENT_OVERLAY = SessionState.COOKIE_CONSENT_OVERLAY;
+    protected static final String ANNOUNCEMENT_OVERLAY = "announcement-banner";
+
+    private static final String DOM_SETTLE_SCRIPT =
+        "var target = arguments[0], quietMs = arguments[1], graceMs = arguments[2], reset = arguments[3];" +
+        "var now = Date.now();" +
+        "if (!target.__domSettle) {" +
+        "  var state = {armedAt: now, lastMutation: now, mutations: 0};" +
+        "  state.observer = new MutationObserver(function(records) {" +
+        "    state.lastMutation = Date.now(); state.mutations += records.length;" +
+        "  });" +
+        "  state.observer.observe(target, {childList: true, subtree: true, attributes: true, characterData: true});" +
+        "  target.__domSettle = state;" +
+        "}" +
+        "var settle = target.__domSettle;" +
+        "if (reset) { settle.armedAt = now; settle.lastMutation = now; settle.mutations = 0; return false; }" +
+        "if (now - settle.lastMutation < quietMs) { return false; }" +
+        "return settle.mutations > 0 || now - settle.armedAt >= graceMs;";
+
+    private static final String DROPDOWN_OPTIONS_SCRIPT =
+        "var select = arguments[0], minOptions = arguments[1], expectedText = arguments[2];" +
+        "if (!select.options || select.options.length < minOptions) { return false; }" +
+        "if (!expectedText) { return true; }" +
+        "for (var i = 0; i < select.options.length; i++) {" +
+        "  if (select.options[i].text.indexOf(expectedText) >= 0) { return true; }" +
+        "}" +
+        "return false;";
+
+    private static final Set<String> SCRIPT_LOCATOR_TYPES = Set.of("id", "cssSelector", "className", "tagName", "name", "xpath");
+
+    private static final String LOCATORS_VISIBLE_SCRIPT =
+        "var locators = arguments[0];" +
+        "function find(type, value) {" +
+        "  switch (type) {" +
+        "    case 'id': return document.getElementById(value);" +
+        "    case 'cssSelector': return document.querySelector(value);" +
+        "    case 'className': return document.getElementsByClassName(value)[0] || null;" +
+        "    case 'tagName': return document.getElementsByTagName(value)[0] || null;" +
+        "    case 'name': return document.getElementsByName(value)[0] || null;" +
+        "    case 'xpath': return document.evaluate(value, document, null," +
+        "        XPathResult.FIRST_ORDERED_NODE_TYPE, null).singleNodeValue;" +
+        "  }" +
+        "  return null;" +
+        "}" +
+        "function visible(el) {" +
+        "  if (!el) { return false; }" +
+        "  var style = window.getComputedStyle(el);" +
+        "  if (style.display === 'none' || style.visibility === 'hidden' || style.opacity === '0') { return false; }" +
+        "  return el.getClientRects().length > 0;" +
+        "}" +
+        "return locators.map(function (locator) { return visible(find(locator[0], locator[1])); });";
 
     public BasePage(WebDriver driver) {
         this.driver = driver;
-        this.wait = new WebDriverWait(driver, Duration.ofSeconds(20));
+        this.wait = new AdaptiveWait(driver, Duration.ofSeconds(TestConfig.getWaitTimeoutSeconds()));
         logger.debug("Initialized BasePage with WebDriver: {}", driver.getClass().getSimpleName());
     }
 
+    protected ExpectedCondition<?> readinessCondition() {
+        return webDriver -> {
+            Object readyState = ((JavascriptExecutor) webDriver).executeScript("return document.readyState");
+            return "interactive".equals(readyState) || "complete".equals(readyState);
+        };
+    }
+
+    public void waitUntilReady() {
+        waitUntilReady(readinessCondition());
+    }
+
+    protected void waitUntilReady(ExpectedCondition<?> condition) {
+        String pageName = getClass().getSimpleName();
+        long start = System.nanoTime();
+        try {
+            wait.until(latencyKey("ready", "page"), condition);
+            logger.debug("{} ready after {} ms", pageName, (System.nanoTime() - start) / 1_000_000);
+        } catch (TimeoutException e) {
+            logger.error("{} not ready within timeout", pageName);
+            throw new RuntimeException("Page not ready within timeout: " + pageName, e);
+        }
+    }
+
+    protected void timedStep(String stepName, Runnable step) {
+        timedStep(stepName, () -> {
+            step.run();
+            return null;
+        });
+    }
+
+    protected <T> T timedStep(String stepName, Supplier<T> step) {
+        long start = System.nanoTime();
+        T result = step.get();
+        StepTimings.record(getClass().getSimpleName() + "." + stepName, (System.nanoTime() - start) / 1_000_000);
+        return result;
+    }
+
+    protected void navigateTo(String url) {
+        navigateTo(url, readinessCondition());
+    }
+
+    protected void navigateTo(String url, ExpectedCondition<?> readiness) {
+        invalidateDomSnapshot();
+        driver.get(url);
+        waitUntilReady(readiness);
+    }
+
     protected void clickElement(By locator) {
         try {
             logger.debug("Attempting to click element with locator: {}", locator);
-            WebElement element = wait.until(ExpectedConditions.elementToBeClickable(locator));
+            invalidateDomSnapshot();
+            WebElement element = wait.until(latencyKey("clickable", locator), ExpectedConditions.elementToBeClickable(locator));
             element.click();
             logger.info("Successfully clicked element: {}", locator);
         } catch (TimeoutException e) {
@@ -40,7 +155,7 @@ public class BasePage {
     protected String getElementText(By locator) {
         try {
             logger.debug("Getting text from element: {}", locator);
-            WebElement element = wait.until(ExpectedConditions.visibilityOfElementLocated(locator));
+            WebElement element = wait.until(latencyKey("visible", locator), ExpectedConditions.visibilityOfElementLocated(locator));
             String text = element.getText();
             logger.debug("Retrieved text '{}' from element: {}", text, locator);
             return text;
@@ -53,7 +168,7 @@ public class BasePage {
     protected WebElement waitForElement(By locator) {
         try {
             logger.debug("Waiting for element to be visible: {}", locator);
-            WebElement element = wait.until(ExpectedConditions.visibilityOfElementLocated(locator));
+            WebElement element = wait.until(latencyKey("visible", locator), ExpectedConditions.visibilityOfElementLocated(locator));
             logger.debug("Element is now visible: {}", locator);
             return element;
         } catch (TimeoutException e) {
@@ -65,7 +180,7 @@ public class BasePage {
     protected boolean isElementPresent(By locator) {
         try {
             logger.debug("Checking if element is present: {}", locator);
-            boolean isPresent = wait.until(ExpectedConditions.visibilityOfElementLocated(locator)).isDisplayed();
+            boolean isPresent = wait.until(latencyKey("visible", locator), ExpectedConditions.visibilityOfElementLocated(locator)).isDisplayed();
             logger.debug("Element present status for {}: {}", locator, isPresent);
             return isPresent;
         } catch (TimeoutException e) {
@@ -77,10 +192,146 @@ public class BasePage {
         }
     }
     
+    protected Map<By, Boolean> waitForElementsVisible(By... locators) {
+        List<List<String>> scriptLocators = new ArrayList<>();
+        for (By locator : locators) {
+            scriptLocators.add(toScriptLocator(locator));
+        }
+        Map<By, Boolean> result = new LinkedHashMap<>();
+        for (By locator : locators) {
+            result.put(locator, false);
+        }
+
+        try {
+            logger.debug("Waiting for {} elements to be visible together", locators.length);
+            wait.until(latencyKey("all-visible", List.of(locators)), webDriver -> {
+                List<?> visibility = (List<?>) ((JavascriptExecutor) webDriver)
+                    .executeScript(LOCATORS_VISIBLE_SCRIPT, scriptLocators);
+                boolean allVisible = true;
+                for (int i = 0; i < locators.length; i++) {
+                    boolean visible = Boolean.TRUE.equals(visibility.get(i));
+                    result.put(locators[i], visible);
+                    allVisible &= visible;
+                }
+                return allVisible;
+            });
+            logger.debug("All {} elements are visible", locators.length);
+        } catch (TimeoutException e) {
+            logger.debug("Not all elements visible within timeout: {}", result);
+        }
+        return result;
+    }
+
+    protected boolean isDomSnapshotMode() {
+        return TestConfig.isDomSnapshotEnabled();
+    }
+
+    // Snapshots are taken lazily on the first query after an interaction; navigateTo, clickElement and
+    // performAndWaitForDomToSettle discard them, as should any page method that changes the DOM directly.
+    protected DomSnapshot domSnapshot() {
+        if (domSnapshot == null) {
+            long start = System.nanoTime();
+            domSnapshot = DomSnapshot.capture(driver);
+            logger.debug("Captured DOM snapshot of {} in {} ms", domSnapshot.getUrl(), (System.nanoTime() - start) / 1_000_000);
+        }
+        return domSnapshot;
+    }
+
+    protected void invalidateDomSnapshot() {
+        domSnapshot = null;
+    }
+
+    protected Map<By, Boolean> checkElementsPresent(By... locators) {
+        if (!isDomSnapshotMode()) {
+            return waitForElementsVisible(locators);
+        }
+        DomSnapshot snapshot = domSnapshot();
+        Map<By, Boolean> result = new LinkedHashMap<>();
+        for (By locator : locators) {
+            result.put(locator, snapshot.isPresent(locator));
+        }
+        if (result.containsValue(false)) {
+            logger.debug("DOM snapshot is missing elements {}, falling back to a live wait", result);
+            invalidateDomSnapshot();
+            return waitForElementsVisible(locators);
+        }
+        return result;
+    }
+
+    static List<String> toScriptLocator(By locator) {
+        String description = locator.toString();
+        int separator = description.indexOf(": ");
+        if (!description.startsWith("By.") || separator < 0
+                || !SCRIPT_LOCATOR_TYPES.contains(description.substring("By.".length(), separator))) {
+            throw new IllegalArgumentException("Locator not supported for batched waits: " + locator);
+        }
+        return List.of(description.substring("By.".length(), separator), description.substring(separator + 2));
+    }
+
+    protected boolean isOptionalElementPresent(By locator) {
+        return isOptionalElementPresent(locator, Duration.ofMillis(TestConfig.getOptionalProbeMillis()));
+    }
+
+    protected boolean isOptionalElementPresent(By locator, Duration probeBudget) {
+        String absentFlag = "absent:" + locator + "@" + driver.getCurrentUrl();
+        if (SessionState.isSet(driver, absentFlag)) {
+            logger.debug("Optional element already known absent on this page: {}", locator);
+            return false;
+        }
+        if (isDisplayedNow(driver, locator)) {
+            logger.debug("Optional element present: {}", locator);
+            return true;
+        }
+        if (!probeBudget.isZero()) {
+            try {
+                logger.debug("Probing for optional element within {} ms: {}", probeBudget.toMillis(), locator);
+                wait.withTimeout(probeBudget).until(latencyKey("optional", locator), webDriver -> isDisplayedNow(webDriver, locator));
+                logger.debug("Optional element present: {}", locator);
+                return true;
+            } catch (TimeoutException e) {
+                logger.debug("Optional element did not appear within {} ms: {}", probeBudget.toMillis(), locator);
+            }
+        }
+        SessionState.set(driver, absentFlag);
+        logger.debug("Optional element absent: {}", locator);
+        return false;
+    }
+
+    private static boolean isDisplayedNow(WebDriver webDriver, By locator) {
+        try {
+            List<WebElement> elements = webDriver.findElements(locator);
+            return !elements.isEmpty() && elements.get(0).isDisplayed();
+        } catch (StaleElementReferenceException e) {
+            return false;
+        }
+    }
+
+    protected boolean handleOverlayOnce(String overlayName, By overlay, BooleanSupplier dismissAction) {
+        return handleOverlayOnce(overlayName, overlay, Duration.ofMillis(TestConfig.getOptionalProbeMillis()), dismissAction);
+    }
+
+    protected boolean handleOverlayOnce(String overlayName, By overlay, Duration probeBudget, BooleanSupplier dismissAction) {
+        if (SessionState.isSet(driver, overlayName)) {
+            logger.debug("Overlay '{}' already handled in this session", overlayName);
+            return false;
+        }
+        if (!isOptionalElementPresent(overlay, probeBudget)) {
+            SessionState.set(driver, overlayName);
+            logger.debug("Overlay '{}' absent, not probing again in this session", overlayName);
+            return false;
+        }
+        boolean dismissed = dismissAction.getAsBoolean();
+        if (dismissed) {
+            SessionState.set(driver, overlayName);
+            logger.debug("Overlay '{}' dismissed for this session", overlayName);
+        }
+        return dismissed;
+    }
+
     protected void waitForElementToBeVisible(By locator) {
         try {
             logger.debug("Waiting for element to be visible: {}", locator);
-            wait.until(ExpectedConditions.visibilityOfElementLocated(locator));
+            wait.until(latencyKey("visible", locator), ExpectedConditions.visibilityOfElementLocated(locator));
             logger.debug("Element is now visible: {}", locator);
         } catch (TimeoutException e) {
             logger.error("Element not visible within timeout: {}", locator);
@@ -91,7 +342,7 @@ public class BasePage {
     protected void waitForElementToBeClickable(By locator) {
         try {
             logger.debug("Waiting for element to be clickable: {}", locator);
-            wait.until(ExpectedConditions.elementToBeClickable(locator));
+            wait.until(latencyKey("clickable", locator), ExpectedConditions.elementToBeClickable(locator));
             logger.debug("Element is now clickable: {}", locator);
         } catch (TimeoutException e) {
             logger.error("Element not clickable within timeout: {}", locator);
@@ -99,6 +350,78 @@ public class BasePage {
         }
     }
 
+    protected void waitForDomToSettle(By container) {
+        logger.debug("Waiting for DOM under {} to settle", container);
+        awaitDomSettled(container, findPresentElement(container), 0);
+        logger.debug("DOM under {} has settled", container);
+    }
+
+    protected void performAndWaitForDomToSettle(By container, Runnable action) {
+        performAndWaitForDomToSettle(container, action, TestConfig.getDomSettleGraceMillis());
+    }
+
+    protected void performAndWaitForDomToSettle(By container, Runnable action, long graceMillis) {
+        invalidateDomSnapshot();
+        WebElement target = findPresentElement(container);
+        ((JavascriptExecutor) driver).executeScript(DOM_SETTLE_SCRIPT, target,
+            TestConfig.getDomSettleQuietMillis(), graceMillis, true);
+        action.run();
+        logger.debug("Waiting for DOM under {} to settle after action", container);
+        awaitDomSettled(container, target, graceMillis);
+        logger.debug("DOM under {} has settled after action", container);
+    }
+
+    protected void waitForDropdownOptions(By selectLocator, int minOptions, String expectedText) {
+        try {
+            logger.debug("Waiting for dropdown {} to have {} options including '{}'", selectLocator, minOptions, expectedText);
+            wait.until(latencyKey("options", selectLocator), webDriver -> {
+                try {
+                    WebElement select = webDriver.findElement(selectLocator);
+                    return (Boolean) ((JavascriptExecutor) webDriver)
+                        .executeScript(DROPDOWN_OPTIONS_SCRIPT, select, minOptions, expectedText);
+                } catch (StaleElementReferenceException e) {
+                    return false;
+                }
+            });
+            logger.debug("Dropdown options loaded: {}", selectLocator);
+        } catch (TimeoutException e) {
+            logger.error("Dropdown options not loaded within timeout: {}", selectLocator);
+            throw new RuntimeException("Dropdown options not loaded within timeout: " + selectLocator, e);
+        }
+    }
+
+    private WebElement findPresentElement(By locator) {
+        try {
+            return wait.until(latencyKey("present", locator), ExpectedConditions.presenceOfElementLocated(locator));
+        } catch (TimeoutException e) {
+            logger.error("Element not present within timeout: {}", locator);
+            throw new RuntimeException("Element not present within timeout: " + locator, e);
+        }
+    }
+
+    private void awaitDomSettled(By container, WebElement initialTarget, long graceMillis) {
+        long quietMillis = TestConfig.getDomSettleQuietMillis();
+        WebElement[] target = {initialTarget};
+        try {
+            wait.until(latencyKey("settled", container), webDriver -> {
+                try {
+                    return (Boolean) ((JavascriptExecutor) webDriver)
+                        .executeScript(DOM_SETTLE_SCRIPT, target[0], quietMillis, graceMillis, false);
+                } catch (StaleElementReferenceException e) {
+                    target[0] = webDriver.findElement(container);
+                    return false;
+                }
+            });
+        } catch (TimeoutException e) {
+            logger.error("DOM under {} did not settle within timeout", container);
+            throw new RuntimeException("DOM did not settle within timeout: " + container, e);
+        }
+    }
+
+    protected String latencyKey(String condition, Object target) {
+        return getClass().getSimpleName() + "|" + condition + "|" + target;
+    }
+
     public String getCurrentUrl() {
         String url = driver.getCurrentUrl();
         logger.debug("Current URL: {}", url);
@@ -119,11 +442,35 @@ public class BasePage {
         logger.info("Test Step: {}", stepDescription);
     }
     
+    protected void logTestStep(String template, Object arg) {
+        if (logger.isInfoEnabled()) {
+            logger.info("Test Step: " + template, arg);
+        }
+    }
+    
     protected void logSuccess(String operation) {
         logger.info("✓ SUCCESS: {}", operation);
     }
     
+    protected void logSuccess(String template, Object arg) {
+        if (logger.isInfoEnabled()) {
+            logger.info("✓ SUCCESS: " + template, arg);
+        }
+    }
+    
+    protected void logSuccess(String template, Object arg1, Object arg2) {
+        if (logger.isInfoEnabled()) {
+            logger.info("✓ SUCCESS: " + template, arg1, arg2);
+        }
+    }
+    
     protected void logError(String operation, Exception e) {
+        FailureArtifacts.capture(driver, operation, e);
         logger.error("✗ ERROR: {} | Exception: {}", operation, e.getMessage(), e);
     }
+    
+    protected void logError(String template, Object arg, Exception e) {
+        FailureArtifacts.capture(driver, MessageFormatter.format(template, arg).getMessage(), e);
+        logger.error("✗ ERROR: " + template + " | Exception: {}", arg, e.getMessage(), e);
+    }
 }
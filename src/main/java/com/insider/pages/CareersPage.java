@@ -1,10 +1,20 @@
 package com.insider.pages;
 
+import com.insider.utils.TestConfig;
 import org.openqa.selenium.By;
 import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.support.ui.ExpectedCondition;
+import org.openqa.selenium.support.ui.ExpectedConditions;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
 
 public class CareersPage extends BasePage {
 
+    public static final String LOCATIONS_BLOCK = "Locations";
+    public static final String TEAMS_BLOCK = "Teams";
+    public static final String LIFE_AT_INSIDER_BLOCK = "Life at Insider";
+
     private final By locationsBlock = By.xpath("//h3[contains(text(), 'Our Locations')]");
     private final By teamsBlock = By.xpath("//h3[contains(text(), 'Find your calling')]");
     private final By lifeAtInsiderBlock = By.xpath("//h2[contains(text(), 'Life at Insider')]");
@@ -17,6 +27,23 @@ public class CareersPage extends BasePage {
         super(driver);
     }
 
+    @Override
+    protected ExpectedCondition<?> readinessCondition() {
+        return ExpectedConditions.and(
+            ExpectedConditions.presenceOfElementLocated(locationsBlock),
+            ExpectedConditions.presenceOfElementLocated(teamsBlock),
+            ExpectedConditions.presenceOfElementLocated(lifeAtInsiderBlock));
+    }
+
+    public void navigateToCareersPage() {
+        timedStep("navigateToCareersPage", () -> {
+            String url = TestConfig.url("/careers/");
+            logTestStep("Navigating to careers page");
+            logPageNavigation("Navigate", url);
+            navigateTo(url);
+        });
+    }
+
     public boolean isCareersPageLoaded() {
         try {
             return getCurrentUrl().contains("/careers/") && 
@@ -27,26 +54,42 @@ public class CareersPage extends BasePage {
     }
 
     public boolean isLocationsBlockPresent() {
-        return isElementPresent(locationsBlock) && isElementPresent(locationsContent);
+        return allVisible(checkElementsPresent(locationsBlock, locationsContent));
     }
 
     public boolean isTeamsBlockPresent() {
-        return isElementPresent(teamsBlock) && isElementPresent(teamsContent);
+        return allVisible(checkElementsPresent(teamsBlock, teamsContent));
     }
 
     public boolean isLifeAtInsiderBlockPresent() {
-        return isElementPresent(lifeAtInsiderBlock) && isElementPresent(lifeAtInsiderContent);
+        return allVisible(checkElementsPresent(lifeAtInsiderBlock, lifeAtInsiderContent));
+    }
+
+    public Map<String, Boolean> getBlockPresence() {
+        return timedStep("getBlockPresence", () -> {
+            Map<By, Boolean> visibility = checkElementsPresent(
+                locationsBlock, locationsContent, teamsBlock, teamsContent, lifeAtInsiderBlock, lifeAtInsiderContent);
+            Map<String, Boolean> blocks = new LinkedHashMap<>();
+            blocks.put(LOCATIONS_BLOCK, visibility.get(locationsBlock) && visibility.get(locationsContent));
+            blocks.put(TEAMS_BLOCK, visibility.get(teamsBlock) && visibility.get(teamsContent));
+            blocks.put(LIFE_AT_INSIDER_BLOCK, visibility.get(lifeAtInsiderBlock) && visibility.get(lifeAtInsiderContent));
+            logger.debug("Careers page block presence: {}", blocks);
+            return blocks;
+        });
     }
 
     public QACareersPage navigateToQACareers() {
-        driver.get("https://useinsider.com/careers/quality-assurance/");
-        return new QACareersPage(driver);
+        QACareersPage qaCareersPage = new QACareersPage(driver);
+        qaCareersPage.navigateToQACareersPage();
+        return qaCareersPage;
     }
 
     public boolean areAllBlocksPresent() {
-        return isLocationsBlockPresent() && 
-               isTeamsBlockPresent() && 
-               isLifeAtInsiderBlockPresent();
+        return allVisible(getBlockPresence());
+    }
+
+    private static boolean allVisible(Map<?, Boolean> visibility) {
+        return visibility.values().stream().allMatch(Boolean::booleanValue);
     }
     
     public boolean isLocationsContentLoaded() {
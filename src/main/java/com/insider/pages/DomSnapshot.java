@@ -0,0 +1,83 @@
+package com.insider.pages;
+
+import org.jsoup.Jsoup;
+import org.jsoup.nodes.Document;
+import org.jsoup.nodes.Element;
+import org.jsoup.select.Elements;
+import org.openqa.selenium.By;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+
+import java.util.List;
+import java.util.regex.Pattern;
+
+public class DomSnapshot {
+
+    private static final Pattern HIDDEN_STYLE = Pattern.compile("(display\\s*:\\s*none|visibility\\s*:\\s*hidden)",
+        Pattern.CASE_INSENSITIVE);
+
+    private static final String CAPTURE_SCRIPT = "return [window.location.href, document.documentElement.outerHTML];";
+
+    private final String url;
+    private final Document document;
+
+    private DomSnapshot(String url, Document document) {
+        this.url = url;
+        this.document = document;
+    }
+
+    public static DomSnapshot capture(WebDriver driver) {
+        List<?> page = (List<?>) ((JavascriptExecutor) driver).executeScript(CAPTURE_SCRIPT);
+        return parse((String) page.get(0), (String) page.get(1));
+    }
+
+    static DomSnapshot parse(String url, String html) {
+        return new DomSnapshot(url, Jsoup.parse(html, url));
+    }
+
+    public String getUrl() {
+        return url;
+    }
+
+    public Document getDocument() {
+        return document;
+    }
+
+    public boolean isPresent(By locator) {
+        return select(locator).stream().anyMatch(DomSnapshot::isRendered);
+    }
+
+    private static boolean isRendered(Element element) {
+        if (element.tagName().equals("input") && element.attr("type").equalsIgnoreCase("hidden")) {
+            return false;
+        }
+        for (Element current = element; current != null; current = current.parent()) {
+            if (current.hasAttr("hidden") || HIDDEN_STYLE.matcher(current.attr("style")).find()) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    public Elements select(By locator) {
+        List<String> parts = BasePage.toScriptLocator(locator);
+        String value = parts.get(1);
+        switch (parts.get(0)) {
+            case "cssSelector":
+                return document.select(value);
+            case "xpath":
+                return document.selectXpath(value);
+            case "id":
+                Element element = document.getElementById(value);
+                return element == null ? new Elements() : new Elements(element);
+            case "className":
+                return document.getElementsByClass(value);
+            case "tagName":
+                return document.getElementsByTag(value);
+            case "name":
+                return document.getElementsByAttributeValue("name", value);
+            default:
+                throw new IllegalArgumentException("Locator not supported for DOM snapshots: " + locator);
+        }
+    }
+}
@@ -0,0 +1,66 @@
+package com.insider.pages;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+
+public class FilterMatrixResult {
+
+    public record Cell(String location, String department, Set<String> jobIds, List<String> violations) {
+
+        public int jobCount() {
+            return jobIds.size();
+        }
+
+        public boolean isValid() {
+            return violations.isEmpty();
+        }
+    }
+
+    private final Set<String> unfilteredJobIds;
+    private final List<Cell> cells;
+    private final boolean complete;
+
+    public FilterMatrixResult(Set<String> unfilteredJobIds, List<Cell> cells, boolean complete) {
+        this.unfilteredJobIds = Collections.unmodifiableSet(unfilteredJobIds);
+        this.cells = Collections.unmodifiableList(cells);
+        this.complete = complete;
+    }
+
+    public List<Cell> getCells() {
+        return cells;
+    }
+
+    public List<Cell> getInvalidCells() {
+        return cells.stream().filter(cell -> !cell.isValid()).toList();
+    }
+
+    public int getUnfilteredJobCount() {
+        return unfilteredJobIds.size();
+    }
+
+    public int getFilteredJobCount() {
+        return getFilteredJobIds().size();
+    }
+
+    public Set<String> getUncoveredJobIds() {
+        Set<String> uncovered = new TreeSet<>(unfilteredJobIds);
+        uncovered.removeAll(getFilteredJobIds());
+        return uncovered;
+    }
+
+    public boolean isComplete() {
+        return complete;
+    }
+
+    public boolean coversAllJobs() {
+        return getFilteredJobIds().equals(unfilteredJobIds);
+    }
+
+    private Set<String> getFilteredJobIds() {
+        Set<String> filtered = new TreeSet<>();
+        cells.forEach(cell -> filtered.addAll(cell.jobIds()));
+        return filtered;
+    }
+}
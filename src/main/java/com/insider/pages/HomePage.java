@@ -1,10 +1,15 @@
 package com.insider.pages;
 
+import com.insider.utils.TestConfig;
 import org.openqa.selenium.By;
 import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.JavascriptExecutor;
 import org.openqa.selenium.WebElement;
 import org.openqa.selenium.ElementClickInterceptedException;
+import org.openqa.selenium.support.ui.ExpectedCondition;
+import org.openqa.selenium.support.ui.ExpectedConditions;
+
+import java.time.Duration;
 
 public class HomePage extends BasePage {
 
@@ -19,19 +24,26 @@ public class HomePage extends BasePage {
         super(driver);
     }
 
+    @Override
+    protected ExpectedCondition<?> readinessCondition() {
+        return ExpectedConditions.presenceOfElementLocated(companyMenu);
+    }
+
     public void navigateToHomePage() {
-        String url = "https://useinsider.com/";
-        logTestStep("Navigating to Insider home page");
-        logPageNavigation("Navigate", url);
-        
-        try {
-            driver.get(url);
-            logSuccess("Successfully navigated to home page");
-            acceptCookies();
-        } catch (Exception e) {
-            logError("Failed to navigate to home page", e);
-            throw e;
-        }
+        timedStep("navigateToHomePage", () -> {
+            String url = TestConfig.url("/");
+            logTestStep("Navigating to Insider home page");
+            logPageNavigation("Navigate", url);
+            
+            try {
+                navigateTo(url);
+                logSuccess("Successfully navigated to home page");
+                acceptCookies();
+            } catch (Exception e) {
+                logError("Failed to navigate to home page", e);
+                throw e;
+            }
+        });
     }
 
     public boolean isHomePageLoaded() {
@@ -44,7 +56,7 @@ public class HomePage extends BasePage {
             boolean isLoaded = title.toLowerCase().contains("insider") || currentUrl.contains("useinsider.com");
             
             if (isLoaded) {
-                logSuccess("Home page loaded successfully - Title: '" + title + "' | URL: " + currentUrl);
+                logSuccess("Home page loaded successfully - Title: '{}' | URL: {}", title, currentUrl);
             } else {
                 logger.warn("Home page verification failed - Title: '{}' | URL: {}", title, currentUrl);
             }
@@ -60,13 +72,18 @@ public class HomePage extends BasePage {
         logTestStep("Attempting to accept cookies if banner is present");
         
         try {
-            if (isElementPresent(cookieBanner) && isElementPresent(acceptCookiesButton)) {
+            boolean accepted = handleOverlayOnce(COOKIE_CONSENT_OVERLAY, cookieBanner, () -> {
+                if (!isOptionalElementPresent(acceptCookiesButton)) {
+                    return false;
+                }
                 logger.info("Cookie banner detected, attempting to accept cookies");
                 clickElement(acceptCookiesButton);
-                waitForElementToBeVisible(By.cssSelector("body"));
+                return true;
+            });
+            if (accepted) {
                 logSuccess("Successfully accepted cookies");
             } else {
-                logger.debug("No cookie banner found or accept button not available");
+                logger.debug("No cookie banner found, accept button not available or already accepted");
             }
         } catch (Exception e) {
             logger.warn("Failed to accept cookies, continuing anyway: {}", e.getMessage());
@@ -77,31 +94,28 @@ public class HomePage extends BasePage {
         logTestStep("Attempting to dismiss announcement banner if present");
         
         try {
-            if (driver.findElements(announcementBanner).size() > 0) {
+            boolean dismissed = handleOverlayOnce(ANNOUNCEMENT_OVERLAY, announcementBanner, Duration.ZERO, () -> {
+                logger.info("Announcement banner detected, attempting to dismiss");
                 WebElement banner = driver.findElement(announcementBanner);
-                if (banner.isDisplayed()) {
-                    logger.info("Announcement banner detected, attempting to dismiss");
-                    
-                    try {
-                        if (driver.findElements(announcementCloseButton).size() > 0) {
-                            clickElement(announcementCloseButton);
-                            logSuccess("Dismissed announcement banner using close button");
-                        } else {
-                            JavascriptExecutor js = (JavascriptExecutor) driver;
-                            js.executeScript("arguments[0].style.display = 'none';", banner);
-                            logSuccess("Dismissed announcement banner using JavaScript");
-                        }
-                    } catch (Exception e) {
-                        logger.warn("Failed to close banner with button, using JavaScript fallback");
-                        JavascriptExecutor js = (JavascriptExecutor) driver;
+                JavascriptExecutor js = (JavascriptExecutor) driver;
+                
+                try {
+                    if (driver.findElements(announcementCloseButton).size() > 0) {
+                        clickElement(announcementCloseButton);
+                        logSuccess("Dismissed announcement banner using close button");
+                    } else {
                         js.executeScript("arguments[0].style.display = 'none';", banner);
-                        logSuccess("Dismissed announcement banner using JavaScript fallback");
+                        logSuccess("Dismissed announcement banner using JavaScript");
                     }
-                } else {
-                    logger.debug("Announcement banner found but not displayed");
+                } catch (Exception e) {
+                    logger.warn("Failed to close banner with button, using JavaScript fallback");
+                    js.executeScript("arguments[0].style.display = 'none';", banner);
+                    logSuccess("Dismissed announcement banner using JavaScript fallback");
                 }
-            } else {
-                logger.debug("No announcement banner found");
+                return true;
+            });
+            if (!dismissed) {
+                logger.debug("No announcement banner displayed or already dismissed");
             }
         } catch (Exception e) {
             logger.warn("Error while dismissing announcement banner: {}", e.getMessage());
@@ -144,22 +158,26 @@ public class HomePage extends BasePage {
             throw e;
         }
         
-        return new CareersPage(driver);
+        CareersPage careersPage = new CareersPage(driver);
+        careersPage.waitUntilReady();
+        return careersPage;
     }
 
     public CareersPage navigateToCareers() {
-        logTestStep("Navigating to Careers page through Company menu");
-        
-        try {
-            acceptCookies();
-            dismissAnnouncementBanner();
-            clickCompanyMenu();
-            CareersPage careersPage = clickCareersLink();
-            logSuccess("Successfully navigated to Careers page");
-            return careersPage;
-        } catch (Exception e) {
-            logError("Failed to navigate to Careers page", e);
-            throw e;
-        }
+        return timedStep("navigateToCareers", () -> {
+            logTestStep("Navigating to Careers page through Company menu");
+            
+            try {
+                acceptCookies();
+                dismissAnnouncementBanner();
+                clickCompanyMenu();
+                CareersPage careersPage = clickCareersLink();
+                logSuccess("Successfully navigated to Careers page");
+                return careersPage;
+            } catch (Exception e) {
+                logError("Failed to navigate to Careers page", e);
+                throw e;
+            }
+        });
     }
 }
@@ -0,0 +1,71 @@
+package com.insider.pages;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+public class JobListingSnapshot {
+
+    public record JobListing(String title, String department, String location, String viewRoleUrl) {
+
+        public String id() {
+            return viewRoleUrl != null ? viewRoleUrl : String.join(" | ", title, department, location);
+        }
+    }
+
+    private final List<JobListing> listings;
+
+    public JobListingSnapshot(List<JobListing> listings) {
+        this.listings = Collections.unmodifiableList(listings);
+    }
+
+    public List<JobListing> getListings() {
+        return listings;
+    }
+
+    public int size() {
+        return listings.size();
+    }
+
+    public boolean isEmpty() {
+        return listings.isEmpty();
+    }
+
+    public boolean allTitlesMatch(Predicate<String> condition) {
+        return allMatch(JobListing::title, condition);
+    }
+
+    public boolean allDepartmentsMatch(Predicate<String> condition) {
+        return allMatch(JobListing::department, condition);
+    }
+
+    public boolean allLocationsMatch(Predicate<String> condition) {
+        return allMatch(JobListing::location, condition);
+    }
+
+    public Set<String> getJobIds() {
+        return listings.stream()
+            .map(JobListing::id)
+            .collect(Collectors.toCollection(TreeSet::new));
+    }
+
+    public List<String> getViewRoleUrls() {
+        return listings.stream()
+            .map(JobListing::viewRoleUrl)
+            .filter(Objects::nonNull)
+            .toList();
+    }
+
+    private boolean allMatch(Function<JobListing, String> field, Predicate<String> condition) {
+        List<String> values = listings.stream()
+            .map(field)
+            .filter(Objects::nonNull)
+            .toList();
+        return !values.isEmpty() && values.stream().allMatch(condition);
+    }
+}
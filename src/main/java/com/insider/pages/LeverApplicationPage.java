@@ -2,6 +2,8 @@ package com.insider.pages;
 
 import org.openqa.selenium.By;
 import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.support.ui.ExpectedCondition;
+import org.openqa.selenium.support.ui.ExpectedConditions;
 
 public class LeverApplicationPage extends BasePage {
 
@@ -13,22 +15,35 @@ public class LeverApplicationPage extends BasePage {
         super(driver);
     }
 
+    @Override
+    protected ExpectedCondition<?> readinessCondition() {
+        return ExpectedConditions.or(
+            ExpectedConditions.presenceOfElementLocated(leverApplicationForm),
+            ExpectedConditions.presenceOfElementLocated(applyButton));
+    }
+
     public boolean isLeverApplicationPage() {
-        try {
-            waitForElementToBeVisible(By.cssSelector("body"));
-            
-            String currentUrl = getCurrentUrl().toLowerCase();
-            
-            boolean isLeverPage = currentUrl.contains("lever") || 
-                   currentUrl.contains("jobs.lever.co") ||
-                   currentUrl.contains("apply") ||
-                   isElementPresent(leverApplicationForm) ||
-                   isElementPresent(applyButton);
-            
-            return isLeverPage;
-        } catch (Exception e) {
-            return false;
-        }
+        return timedStep("isLeverApplicationPage", () -> {
+            try {
+                try {
+                    waitUntilReady();
+                } catch (RuntimeException e) {
+                    logger.debug("Lever readiness not reached, falling back to URL checks: {}", e.getMessage());
+                }
+                
+                String currentUrl = getCurrentUrl().toLowerCase();
+                
+                boolean isLeverPage = currentUrl.contains("lever") || 
+                       currentUrl.contains("jobs.lever.co") ||
+                       currentUrl.contains("apply") ||
+                       isOptionalElementPresent(leverApplicationForm) ||
+                       isOptionalElementPresent(applyButton);
+                
+                return isLeverPage;
+            } catch (Exception e) {
+                return false;
+            }
+        });
     }
 
     public boolean isApplicationFormPresent() {
@@ -37,7 +52,7 @@ public class LeverApplicationPage extends BasePage {
 
     public String getJobTitle() {
         try {
-            if (isElementPresent(jobTitle)) {
+            if (isOptionalElementPresent(jobTitle)) {
                 return getElementText(jobTitle);
             }
             return getPageTitle();
@@ -1,13 +1,20 @@
 package com.insider.pages;
 
+import com.insider.utils.TestConfig;
+import org.jsoup.nodes.Element;
 import org.openqa.selenium.By;
 import org.openqa.selenium.JavascriptExecutor;
 import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.WebElement;
+import org.openqa.selenium.support.ui.ExpectedCondition;
+import org.openqa.selenium.support.ui.ExpectedConditions;
 import org.openqa.selenium.support.ui.Select;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 public class QACareersPage extends BasePage {
     
@@ -16,6 +23,7 @@ public class QACareersPage extends BasePage {
     private final By seeAllQAJobsButton = By.cssSelector("a[href*='qualityassurance'].btn, a[class*='btn'][href*='quality']");
     private final By locationFilter = By.id("filter-by-location");
     private final By departmentFilter = By.id("filter-by-department");
+    private final By jobsContainer = By.id("jobs-list");
     private final By jobsList = By.cssSelector("#jobs-list .position-list-item");
     private final By jobPositions = By.cssSelector(".position-list-item .position-title");
     private final By jobDepartments = By.cssSelector(".position-list-item .position-department");
@@ -24,97 +32,216 @@ public class QACareersPage extends BasePage {
     private final By acceptCookiesButton = By.id("wt-cli-accept-all-btn");
     private final By cookieBanner = By.id("cookie-law-info-bar");
 
+    private static final String JOB_LISTING_SNAPSHOT_SCRIPT =
+        "function text(row, selector) {" +
+        "  var el = row.querySelector(selector);" +
+        "  return el ? el.innerText.trim() : null;" +
+        "}" +
+        "var rows = document.querySelectorAll('.position-list-item');" +
+        "var result = [];" +
+        "for (var i = 0; i < rows.length; i++) {" +
+        "  var link = rows[i].querySelector(\"a.btn.btn-navy.rounded[target='_blank']\");" +
+        "  result.push({" +
+        "    title: text(rows[i], '.position-title')," +
+        "    department: text(rows[i], '.position-department')," +
+        "    location: text(rows[i], '.position-location')," +
+        "    viewRoleUrl: link ? link.href : null" +
+        "  });" +
+        "}" +
+        "return result;";
+
+    private static final String ALL_OPTION = "All";
+    private static final String QA_OPEN_POSITIONS_PATH = "/careers/open-positions/?department=qualityassurance";
+    private static final String SELECT_OPTIONS_SCRIPT =
+        "var texts = [];" +
+        "for (var i = 0; i < arguments[0].options.length; i++) { texts.push(arguments[0].options[i].text.trim()); }" +
+        "return texts;";
+
     public QACareersPage(WebDriver driver) {
         super(driver);
     }
 
-    public void acceptCookies() {
-        try {
-            if (isElementPresent(cookieBanner) && isElementPresent(acceptCookiesButton)) {
-                clickElement(acceptCookiesButton);
+    @Override
+    protected ExpectedCondition<?> readinessCondition() {
+        return ExpectedConditions.presenceOfElementLocated(seeAllQAJobsButton);
+    }
+
+    private ExpectedCondition<?> openPositionsReadiness() {
+        return ExpectedConditions.visibilityOfElementLocated(locationFilter);
+    }
+
+    public void navigateToQACareersPage() {
+        timedStep("navigateToQACareersPage", () -> {
+            String url = TestConfig.url("/careers/quality-assurance/");
+            logTestStep("Navigating to QA careers page");
+            logPageNavigation("Navigate", url);
+            navigateTo(url);
+        });
+    }
+
+    public void openFilteredJobs(String location, String department) {
+        timedStep("openFilteredJobs", () -> {
+            String url = TestConfig.url(QA_OPEN_POSITIONS_PATH);
+            logTestStep("Opening QA open positions filtered by {}", location);
+            logPageNavigation("Navigate", url);
+            navigateTo(url, openPositionsReadiness());
+            filterByLocation(location);
+            if (!department.equals(new Select(waitForElement(departmentFilter)).getFirstSelectedOption().getText().trim())) {
+                filterByDepartment(department);
             }
-        } catch (Exception e) {
-        }
+        });
     }
 
-    public void clickSeeAllQAJobs() {
-        logTestStep("Clicking 'See All QA Jobs' button");
-        acceptCookies();
-        
+    public void acceptCookies() {
         try {
-            clickElement(seeAllQAJobsButton);
-            waitForElementToBeVisible(locationFilter);
-            logSuccess("Successfully navigated to QA jobs page and filters are visible");
+            handleOverlayOnce(COOKIE_CONSENT_OVERLAY, cookieBanner, () -> {
+                if (!isOptionalElementPresent(acceptCookiesButton)) {
+                    return false;
+                }
+                clickElement(acceptCookiesButton);
+                return true;
+            });
         } catch (Exception e) {
-            logError("Failed to click 'See All QA Jobs' button or filters not visible", e);
-            throw e;
         }
     }
 
-    public void filterByLocation(String location) {
-        logTestStep("Filtering jobs by location: " + location);
-        
-        try {
-            waitForElementToBeClickable(locationFilter);
-            WebElement locationDropdown = waitForElement(locationFilter);
-            Select select = new Select(locationDropdown);
+    public void clickSeeAllQAJobs() {
+        timedStep("clickSeeAllQAJobs", () -> {
+            logTestStep("Clicking 'See All QA Jobs' button");
+            acceptCookies();
             
-            logger.debug("Waiting for location dropdown options to load");
             try {
-                wait.until(webDriver -> {
-                    try {
-                        List<WebElement> options = select.getOptions();
-                        boolean hasEnoughOptions = options.size() > 5;
-                        boolean hasIstanbul = options.stream()
-                            .anyMatch(option -> option.getText().contains("Istanbul, Turkiye"));
-                        return hasEnoughOptions && hasIstanbul;
-                    } catch (Exception e) {
-                        return false;
-                    }
-                });
-                logger.debug("Location dropdown options loaded successfully");
+                clickElement(seeAllQAJobsButton);
+                waitForElementToBeVisible(locationFilter);
+                logSuccess("Successfully navigated to QA jobs page and filters are visible");
             } catch (Exception e) {
-                logger.warn("Location dropdown options loading timeout, proceeding anyway");
+                logError("Failed to click 'See All QA Jobs' button or filters not visible", e);
+                throw e;
             }
+        });
+    }
+
+    public void filterByLocation(String location) {
+        timedStep("filterByLocation", () -> {
+            logTestStep("Filtering jobs by location: {}", location);
             
             try {
-                Thread.sleep(5000); 
-            } catch (InterruptedException e) {
-                Thread.currentThread().interrupt();
+                waitForElementToBeClickable(locationFilter);
+                WebElement locationDropdown = waitForElement(locationFilter);
+                Select select = new Select(locationDropdown);
+                
+                logger.debug("Waiting for location dropdown options to load");
+                try {
+                    waitForDropdownOptions(locationFilter, 6, location);
+                    logger.debug("Location dropdown options loaded successfully");
+                } catch (Exception e) {
+                    logger.warn("Location dropdown options loading timeout, proceeding anyway");
+                }
+                
+                waitForDomToSettle(jobsContainer);
+                
+                logger.info("Selecting location: {}", location);
+                performAndWaitForDomToSettle(jobsContainer, () -> select.selectByVisibleText(location));
+                waitForElementToBeVisible(jobsList);
+                
+                logSuccess("Successfully filtered jobs by location: {}", location);
+            } catch (Exception e) {
+                logError("Failed to filter by location: {}", location, e);
+                throw e;
             }
-            
-            logger.info("Selecting location: {}", location);
-            select.selectByVisibleText(location);
+        });
+    }
+
+    public void filterByDepartment(String department) {
+        timedStep("filterByDepartment", () -> {
+            waitForElementToBeClickable(departmentFilter);
+            WebElement departmentDropdown = waitForElement(departmentFilter);
+            Select select = new Select(departmentDropdown);
+            waitForDropdownOptions(departmentFilter, 1, department);
+            performAndWaitForDomToSettle(jobsContainer, () -> select.selectByVisibleText(department));
             waitForElementToBeVisible(jobsList);
-            
-            try {
-                Thread.sleep(3000); 
-            } catch (InterruptedException e) {
-                Thread.currentThread().interrupt();
+        });
+    }
+
+    public List<String> getLocationOptions() {
+        return getFilterOptions(locationFilter);
+    }
+
+    public List<String> getDepartmentOptions() {
+        return getFilterOptions(departmentFilter);
+    }
+
+    private List<String> getFilterOptions(By filter) {
+        waitForDropdownOptions(filter, 2, null);
+        List<?> texts = (List<?>) ((JavascriptExecutor) driver).executeScript(SELECT_OPTIONS_SCRIPT, waitForElement(filter));
+        List<String> options = new ArrayList<>();
+        for (Object text : texts) {
+            if (!ALL_OPTION.equalsIgnoreCase((String) text) && !((String) text).isEmpty()) {
+                options.add((String) text);
             }
-            
-            logSuccess("Successfully filtered jobs by location: " + location);
-        } catch (Exception e) {
-            logError("Failed to filter by location: " + location, e);
-            throw e;
         }
+        return options;
     }
 
-    public void filterByDepartment(String department) {
-        waitForElementToBeClickable(departmentFilter);
-        WebElement departmentDropdown = waitForElement(departmentFilter);
-        Select select = new Select(departmentDropdown);
-        select.selectByVisibleText(department);
-        waitForElementToBeVisible(jobsList);
-        
-        try {
-            Thread.sleep(7000); 
-        } catch (InterruptedException e) {
-            Thread.currentThread().interrupt();
+    public FilterMatrixResult runFilterMatrix(int maxCells) {
+        return timedStep("runFilterMatrix", () -> {
+            List<String> locations = getLocationOptions();
+            List<String> departments = getDepartmentOptions();
+            logTestStep("Running filter matrix over {} combinations", locations.size() * departments.size());
+
+            selectFilterInPlace(locationFilter, ALL_OPTION);
+            selectFilterInPlace(departmentFilter, ALL_OPTION);
+            Set<String> unfilteredJobIds = getJobListingSnapshot().getJobIds();
+
+            List<FilterMatrixResult.Cell> cells = new ArrayList<>();
+            boolean complete = true;
+            matrix:
+            for (String location : locations) {
+                selectFilterInPlace(departmentFilter, ALL_OPTION);
+                selectFilterInPlace(locationFilter, location);
+                for (String department : departments) {
+                    if (maxCells > 0 && cells.size() >= maxCells) {
+                        complete = false;
+                        break matrix;
+                    }
+                    selectFilterInPlace(departmentFilter, department);
+                    cells.add(validateCell(location, department, getJobListingSnapshot()));
+                }
+            }
+
+            FilterMatrixResult result = new FilterMatrixResult(unfilteredJobIds, cells, complete);
+            logSuccess("Filter matrix checked {} combinations, {} invalid", cells.size(), result.getInvalidCells().size());
+            return result;
+        });
+    }
+
+    private void selectFilterInPlace(By filter, String optionText) {
+        Select select = new Select(waitForElement(filter));
+        if (optionText.equals(select.getFirstSelectedOption().getText().trim())) {
+            return;
+        }
+        performAndWaitForDomToSettle(jobsContainer, () -> select.selectByVisibleText(optionText),
+            TestConfig.getFilterMatrixGraceMillis());
+    }
+
+    private static FilterMatrixResult.Cell validateCell(String location, String department, JobListingSnapshot snapshot) {
+        List<String> violations = new ArrayList<>();
+        for (JobListingSnapshot.JobListing listing : snapshot.getListings()) {
+            if (listing.location() == null || !listing.location().toLowerCase().contains(location.toLowerCase())) {
+                violations.add("'" + listing.title() + "' has location " + listing.location());
+            }
+            if (listing.department() == null || !listing.department().toLowerCase().contains(department.toLowerCase())) {
+                violations.add("'" + listing.title() + "' has department " + listing.department());
+            }
         }
+        return new FilterMatrixResult.Cell(location, department, snapshot.getJobIds(), violations);
     }
 
     public boolean isJobsListPresent() {
+        if (isDomSnapshotMode() && domSnapshot().isPresent(jobsList)) {
+            return true;
+        }
+        invalidateDomSnapshot();
         try {
             List<WebElement> jobs = driver.findElements(jobsList);
             return !jobs.isEmpty();
@@ -136,94 +263,99 @@ public class QACareersPage extends BasePage {
     }
 
 
-    public boolean allPositionsContainQA() {
-        List<WebElement> positions = driver.findElements(jobPositions);
-        if (positions.isEmpty()) {
-            return false;
-        }
-        
-        for (int i = 0; i < positions.size(); i++) {
-            List<WebElement> freshPositions = driver.findElements(jobPositions);
-            if (i >= freshPositions.size()) {
-                break;
+    public JobListingSnapshot getJobListingSnapshot() {
+        return timedStep("getJobListingSnapshot", () -> {
+            logger.debug("Capturing job listing snapshot");
+            if (isDomSnapshotMode()) {
+                return jobListingSnapshotFromDom();
             }
-            
-            String positionText = freshPositions.get(i).getText().toLowerCase();
-            
-            if (!positionText.contains("quality assurance") && !positionText.contains("qa") && !positionText.contains("software quality")) {
-                return false;
+            List<?> rows = (List<?>) ((JavascriptExecutor) driver).executeScript(JOB_LISTING_SNAPSHOT_SCRIPT);
+            List<JobListingSnapshot.JobListing> listings = new ArrayList<>();
+            for (Object row : rows) {
+                Map<?, ?> fields = (Map<?, ?>) row;
+                listings.add(new JobListingSnapshot.JobListing(
+                    (String) fields.get("title"),
+                    (String) fields.get("department"),
+                    (String) fields.get("location"),
+                    (String) fields.get("viewRoleUrl")));
             }
+            logger.debug("Captured {} job listings", listings.size());
+            return new JobListingSnapshot(listings);
+        });
+    }
+
+    private JobListingSnapshot jobListingSnapshotFromDom() {
+        List<JobListingSnapshot.JobListing> listings = new ArrayList<>();
+        for (Element row : domSnapshot().getDocument().select(".position-list-item")) {
+            Element link = row.selectFirst("a.btn.btn-navy.rounded[target='_blank']");
+            listings.add(new JobListingSnapshot.JobListing(
+                text(row, ".position-title"),
+                text(row, ".position-department"),
+                text(row, ".position-location"),
+                link == null ? null : link.absUrl("href")));
         }
-        return true;
+        logger.debug("Parsed {} job listings from DOM snapshot", listings.size());
+        return new JobListingSnapshot(listings);
+    }
+
+    private static String text(Element row, String selector) {
+        Element element = row.selectFirst(selector);
+        return element == null ? null : element.text().trim();
+    }
+
+    public boolean allPositionsContainQA() {
+        return allPositionsContainQA(getJobListingSnapshot());
+    }
+
+    public boolean allPositionsContainQA(JobListingSnapshot snapshot) {
+        return snapshot.allTitlesMatch(title -> {
+            String positionText = title.toLowerCase();
+            return positionText.contains("quality assurance") || positionText.contains("qa") || positionText.contains("software quality");
+        });
     }
 
     public boolean allDepartmentsContainQA() {
-        List<WebElement> departments = driver.findElements(jobDepartments);
-        if (departments.isEmpty()) {
-            return false;
-        }
-        
-        for (int i = 0; i < departments.size(); i++) {
-            List<WebElement> freshDepartments = driver.findElements(jobDepartments);
-            if (i >= freshDepartments.size()) {
-                break;
-            }
-            
-            String departmentText = freshDepartments.get(i).getText().toLowerCase();
-            if (!departmentText.contains("quality assurance")) {
-                return false;
-            }
-        }
-        return true;
+        return allDepartmentsContainQA(getJobListingSnapshot());
+    }
+
+    public boolean allDepartmentsContainQA(JobListingSnapshot snapshot) {
+        return snapshot.allDepartmentsMatch(department -> department.toLowerCase().contains("quality assurance"));
     }
 
     public boolean allLocationsContainIstanbul() {
-        List<WebElement> locations = driver.findElements(jobLocations);
-        if (locations.isEmpty()) {
-            return false;
-        }
-        
-        for (int i = 0; i < locations.size(); i++) {
-            List<WebElement> freshLocations = driver.findElements(jobLocations);
-            if (i >= freshLocations.size()) {
-                break;
-            }
-            
-            String locationText = freshLocations.get(i).getText().toLowerCase();
-            
+        return allLocationsContainIstanbul(getJobListingSnapshot());
+    }
+
+    public boolean allLocationsContainIstanbul(JobListingSnapshot snapshot) {
+        return snapshot.allLocationsMatch(location -> {
+            String locationText = location.toLowerCase();
             boolean hasIstanbul = locationText.contains("istanbul") || locationText.contains("ıstanbul");
             boolean hasTurkiye = locationText.contains("turkiye");
-            
-            if (!hasIstanbul || !hasTurkiye) {
-                return false;
-            }
-        }
-        return true;
+            return hasIstanbul && hasTurkiye;
+        });
     }
 
     public LeverApplicationPage clickFirstViewRoleButton() {
-        try {
-            Thread.sleep(7000);
-        } catch (InterruptedException e) {
-            Thread.currentThread().interrupt();
-        }
-        
-        List<WebElement> buttons = driver.findElements(viewRoleButtons);
-        if (!buttons.isEmpty()) {
-            WebElement firstButton = buttons.get(0);
-            JavascriptExecutor js = (JavascriptExecutor) driver;
-            js.executeScript("arguments[0].click();", firstButton);
-            
-            String originalWindow = driver.getWindowHandle();
-            wait.until(webDriver -> webDriver.getWindowHandles().size() > 1);
+        return timedStep("clickFirstViewRoleButton", () -> {
+            waitForDomToSettle(jobsContainer);
             
-            for (String windowHandle : driver.getWindowHandles()) {
-                if (!originalWindow.equals(windowHandle)) {
-                    driver.switchTo().window(windowHandle);
-                    break;
+            List<WebElement> buttons = driver.findElements(viewRoleButtons);
+            if (!buttons.isEmpty()) {
+                WebElement firstButton = buttons.get(0);
+                JavascriptExecutor js = (JavascriptExecutor) driver;
+                js.executeScript("arguments[0].click();", firstButton);
+                
+                String originalWindow = driver.getWindowHandle();
+                wait.until(latencyKey("new-window", "view-role"), webDriver -> webDriver.getWindowHandles().size() > 1);
+                
+                for (String windowHandle : driver.getWindowHandles()) {
+                    if (!originalWindow.equals(windowHandle)) {
+                        driver.switchTo().window(windowHandle);
+                        break;
+                    }
                 }
             }
-        }
-        return new LeverApplicationPage(driver);
+            return new LeverApplicationPage(driver);
+        });
     }
 }
@@ -0,0 +1,49 @@
+package com.insider.sharding;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+public final class ShardPlanner {
+
+    public record Shard(int index, List<String> testKeys, long estimatedMillis) {
+    }
+
+    private ShardPlanner() {
+    }
+
+    public static List<Shard> plan(List<String> testKeys, int shardCount, TestDurationHistory history, long defaultMillis) {
+        if (shardCount < 1) {
+            throw new IllegalArgumentException("Shard count must be at least 1, was: " + shardCount);
+        }
+        Map<String, Long> estimates = new HashMap<>();
+        testKeys.forEach(testKey -> estimates.put(testKey, history.estimate(testKey, defaultMillis)));
+
+        List<String> longestFirst = new ArrayList<>(testKeys);
+        longestFirst.sort(Comparator.<String>comparingLong(estimates::get).reversed().thenComparing(Comparator.naturalOrder()));
+
+        List<List<String>> assigned = new ArrayList<>();
+        long[] loads = new long[shardCount];
+        for (int i = 0; i < shardCount; i++) {
+            assigned.add(new ArrayList<>());
+        }
+        for (String testKey : longestFirst) {
+            int lightest = 0;
+            for (int i = 1; i < shardCount; i++) {
+                if (loads[i] < loads[lightest]) {
+                    lightest = i;
+                }
+            }
+            assigned.get(lightest).add(testKey);
+            loads[lightest] += estimates.get(testKey);
+        }
+
+        List<Shard> shards = new ArrayList<>();
+        for (int i = 0; i < shardCount; i++) {
+            shards.add(new Shard(i, List.copyOf(assigned.get(i)), loads[i]));
+        }
+        return shards;
+    }
+}
@@ -0,0 +1,175 @@
+package com.insider.sharding;
+
+import com.insider.utils.TestConfig;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.w3c.dom.Document;
+import org.w3c.dom.Element;
+import org.w3c.dom.Node;
+import org.w3c.dom.NodeList;
+
+import javax.xml.parsers.DocumentBuilderFactory;
+import javax.xml.transform.OutputKeys;
+import javax.xml.transform.Transformer;
+import javax.xml.transform.TransformerFactory;
+import javax.xml.transform.dom.DOMSource;
+import javax.xml.transform.stream.StreamResult;
+import java.io.File;
+import java.io.IOException;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+public final class ShardedSuiteRunner {
+
+    private static final Logger logger = LoggerFactory.getLogger(ShardedSuiteRunner.class);
+
+    private static final List<String> JDK_PREFIXES = List.of(
+        "java.", "sun.", "os.", "user.", "file.", "jdk.", "line.separator", "path.separator",
+        "native.encoding", "stdout.encoding", "stderr.encoding");
+    private static final String[] COUNTERS = {"total", "passed", "failed", "skipped", "ignored"};
+
+    private ShardedSuiteRunner() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        int shardCount = TestConfig.getShardCount();
+        Path suiteFile = Path.of(args.length > 0 ? args[0] : TestConfig.getShardSuiteFile());
+        Path outputDir = Path.of(TestConfig.getShardOutputDir());
+        Path historyFile = Path.of(TestConfig.getShardHistoryFile());
+
+        long start = System.nanoTime();
+        List<Process> forks = new ArrayList<>();
+        for (int index = 0; index < shardCount; index++) {
+            forks.add(launchFork(index, shardCount, suiteFile, outputDir.resolve("shard-" + index), historyFile));
+        }
+        logger.info("Launched {} shard fork(s) for {}", shardCount, suiteFile);
+
+        List<Integer> failedForks = new ArrayList<>();
+        for (int index = 0; index < shardCount; index++) {
+            int exitCode = forks.get(index).waitFor();
+            logger.info("Shard {} finished with exit code {}", index, exitCode);
+            if (exitCode != 0) {
+                failedForks.add(index);
+            }
+        }
+
+        TestDurationHistory history = TestDurationHistory.load(historyFile);
+        for (int index = 0; index < shardCount; index++) {
+            history.merge(TestDurationHistory.load(durationsFile(outputDir.resolve("shard-" + index))).getDurations());
+        }
+        history.save(historyFile);
+
+        Path mergedReport = mergeResults(outputDir, shardCount);
+        logger.info("Sharded run finished in {} ms, merged report: {}", (System.nanoTime() - start) / 1_000_000, mergedReport);
+        if (!failedForks.isEmpty()) {
+            throw new IllegalStateException("Shard(s) " + failedForks + " reported failures, see " + mergedReport);
+        }
+    }
+
+    private static Process launchFork(int index, int shardCount, Path suiteFile, Path shardDir, Path historyFile) throws IOException {
+        Files.createDirectories(shardDir);
+        List<String> command = new ArrayList<>();
+        command.add(Path.of(System.getProperty("java.home"), "bin", "java").toString());
+        for (Map.Entry<Object, Object> property : System.getProperties().entrySet()) {
+            String key = property.getKey().toString();
+            if (JDK_PREFIXES.stream().noneMatch(key::startsWith)) {
+                command.add("-D" + key + "=" + property.getValue());
+            }
+        }
+        command.add("-Dshard.count=" + shardCount);
+        command.add("-Dshard.index=" + index);
+        command.add("-Dshard.history.file=" + historyFile.toAbsolutePath());
+        command.add("-Dshard.durations.out=" + durationsFile(shardDir).toAbsolutePath());
+        command.add("-Dchrome.profile.template.dir=" + shardPath(TestConfig.getChromeProfileTemplateDir(), index));
+        Path sessionStateFile = Path.of(TestConfig.getSessionStateFile()).toAbsolutePath();
+        command.add("-Dsession.state.file=" + shardPath(sessionStateFile.getParent().toString(), index)
+            .resolve(sessionStateFile.getFileName()));
+        command.add("-Dstep.timings.dir=" + shardPath(TestConfig.getStepTimingDir(), index));
+        command.add("-Dfailure.artifacts.dir=" + shardPath(TestConfig.getFailureArtifactsDir(), index));
+        command.add("-cp");
+        command.add(testClasspath());
+        command.add("org.testng.TestNG");
+        command.add("-d");
+        command.add(shardDir.toString());
+        command.add(suiteFile.toString());
+
+        File console = shardDir.resolve("console.log").toFile();
+        return new ProcessBuilder(command)
+            .redirectErrorStream(true)
+            .redirectOutput(console)
+            .start();
+    }
+
+    private static String testClasspath() {
+        if (ShardedSuiteRunner.class.getClassLoader() instanceof URLClassLoader classLoader) {
+            List<String> entries = new ArrayList<>();
+            for (URL url : classLoader.getURLs()) {
+                try {
+                    entries.add(Path.of(url.toURI()).toString());
+                } catch (URISyntaxException e) {
+                    throw new IllegalStateException("Unsupported classpath entry: " + url, e);
+                }
+            }
+            return String.join(File.pathSeparator, entries);
+        }
+        return System.getProperty("java.class.path");
+    }
+
+    private static Path shardPath(String baseDir, int index) {
+        return Path.of(baseDir).resolve("shard-" + index).toAbsolutePath();
+    }
+
+    private static Path durationsFile(Path shardDir) {
+        return shardDir.resolve("durations.properties");
+    }
+
+    private static Path mergeResults(Path outputDir, int shardCount) throws Exception {
+        DocumentBuilderFactory factory = DocumentBuilderFactory.newInstance();
+        Document merged = factory.newDocumentBuilder().newDocument();
+        Element root = merged.createElement("testng-results");
+        merged.appendChild(root);
+        long[] totals = new long[COUNTERS.length];
+
+        for (int index = 0; index < shardCount; index++) {
+            Path results = outputDir.resolve("shard-" + index).resolve("testng-results.xml");
+            if (!Files.isRegularFile(results)) {
+                logger.warn("Shard {} produced no testng-results.xml", index);
+                continue;
+            }
+            Element shardRoot = factory.newDocumentBuilder().parse(results.toFile()).getDocumentElement();
+            for (int i = 0; i < COUNTERS.length; i++) {
+                String value = shardRoot.getAttribute(COUNTERS[i]);
+                totals[i] += value.isEmpty() ? 0 : Long.parseLong(value);
+            }
+            NodeList suites = shardRoot.getElementsByTagName("suite");
+            for (int i = 0; i < suites.getLength(); i++) {
+                Element suite = (Element) merged.importNode(suites.item(i), true);
+                suite.setAttribute("name", suite.getAttribute("name") + " [shard " + index + "]");
+                root.appendChild(suite);
+            }
+            NodeList outputs = shardRoot.getChildNodes();
+            for (int i = 0; i < outputs.getLength(); i++) {
+                Node node = outputs.item(i);
+                if ("reporter-output".equals(node.getNodeName())) {
+                    root.insertBefore(merged.importNode(node, true), root.getFirstChild());
+                }
+            }
+        }
+        for (int i = 0; i < COUNTERS.length; i++) {
+            root.setAttribute(COUNTERS[i], String.valueOf(totals[i]));
+        }
+
+        Path mergedReport = outputDir.resolve("testng-results.xml");
+        Transformer transformer = TransformerFactory.newInstance().newTransformer();
+        transformer.setOutputProperty(OutputKeys.INDENT, "yes");
+        transformer.transform(new DOMSource(merged), new StreamResult(mergedReport.toFile()));
+        logger.info("Merged results: {} total, {} passed, {} failed, {} skipped", totals[0], totals[1], totals[2], totals[3]);
+        return mergedReport;
+    }
+}
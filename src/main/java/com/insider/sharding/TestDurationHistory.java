@@ -0,0 +1,83 @@
+package com.insider.sharding;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Properties;
+import java.util.TreeMap;
+
+public class TestDurationHistory {
+
+    private static final Logger logger = LoggerFactory.getLogger(TestDurationHistory.class);
+    private static final double SMOOTHING = 0.5;
+
+    private final Map<String, Long> durations;
+
+    public TestDurationHistory(Map<String, Long> durations) {
+        this.durations = new TreeMap<>(durations);
+    }
+
+    public static TestDurationHistory load(Path file) {
+        Map<String, Long> durations = new TreeMap<>();
+        if (!Files.isRegularFile(file)) {
+            return new TestDurationHistory(durations);
+        }
+        Properties properties = new Properties();
+        try (Reader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            properties.load(reader);
+        } catch (IOException e) {
+            logger.warn("Ignoring unreadable test duration history {}: {}", file, e.getMessage());
+            return new TestDurationHistory(durations);
+        }
+        for (String key : properties.stringPropertyNames()) {
+            try {
+                durations.put(key, Long.parseLong(properties.getProperty(key).trim()));
+            } catch (NumberFormatException e) {
+                logger.warn("Ignoring invalid duration for {} in {}", key, file);
+            }
+        }
+        return new TestDurationHistory(durations);
+    }
+
+    public Map<String, Long> getDurations() {
+        return Collections.unmodifiableMap(durations);
+    }
+
+    public long estimate(String testKey, long defaultMillis) {
+        Long known = durations.get(testKey);
+        if (known != null) {
+            return known;
+        }
+        return durations.isEmpty() ? defaultMillis
+            : Math.round(durations.values().stream().mapToLong(Long::longValue).average().orElse(defaultMillis));
+    }
+
+    public void merge(Map<String, Long> observed) {
+        observed.forEach((testKey, millis) -> durations.merge(testKey, millis,
+            (previous, latest) -> Math.round(previous * (1 - SMOOTHING) + latest * SMOOTHING)));
+    }
+
+    public void save(Path file) {
+        Properties properties = new Properties();
+        durations.forEach((testKey, millis) -> properties.setProperty(testKey, String.valueOf(millis)));
+        try {
+            if (file.getParent() != null) {
+                Files.createDirectories(file.getParent());
+            }
+            try (Writer writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8)) {
+                properties.store(writer, "Smoothed test method durations in milliseconds");
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to save test duration history to " + file, e);
+        }
+    }
+}
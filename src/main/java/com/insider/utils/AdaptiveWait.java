@@ -0,0 +1,128 @@
+package com.insider.utils;
+
+import org.openqa.selenium.NotFoundException;
+import org.openqa.selenium.StaleElementReferenceException;
+import org.openqa.selenium.TimeoutException;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.support.ui.Sleeper;
+import org.openqa.selenium.support.ui.Wait;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+public class AdaptiveWait implements Wait<WebDriver> {
+
+    private static final double LEARNING_RATE = 0.3;
+    private static final double LEARNED_HEAD_START = 0.8;
+    private static final Map<String, Double> learnedLatencyMillis = new ConcurrentHashMap<>();
+
+    private final WebDriver driver;
+    private final Duration timeout;
+    private final long initialPollMillis;
+    private final long maxPollMillis;
+    private final double backoffFactor;
+    private final Clock clock;
+    private final Sleeper sleeper;
+
+    public AdaptiveWait(WebDriver driver, Duration timeout) {
+        this(driver, timeout, TestConfig.getWaitInitialPollMillis(), TestConfig.getWaitMaxPollMillis(),
+            TestConfig.getWaitPollBackoff());
+    }
+
+    public AdaptiveWait(WebDriver driver, Duration timeout, long initialPollMillis, long maxPollMillis, double backoffFactor) {
+        this(driver, timeout, initialPollMillis, maxPollMillis, backoffFactor, Clock.systemUTC(), Sleeper.SYSTEM_SLEEPER);
+    }
+
+    AdaptiveWait(WebDriver driver, Duration timeout, long initialPollMillis, long maxPollMillis, double backoffFactor,
+                 Clock clock, Sleeper sleeper) {
+        this.driver = driver;
+        this.timeout = timeout;
+        this.initialPollMillis = Math.max(1, initialPollMillis);
+        this.maxPollMillis = Math.max(this.initialPollMillis, maxPollMillis);
+        this.backoffFactor = Math.max(1.0, backoffFactor);
+        this.clock = clock;
+        this.sleeper = sleeper;
+    }
+
+    public AdaptiveWait withTimeout(Duration newTimeout) {
+        return new AdaptiveWait(driver, newTimeout, initialPollMillis, maxPollMillis, backoffFactor, clock, sleeper);
+    }
+
+    public Duration getTimeout() {
+        return timeout;
+    }
+
+    @Override
+    public <T> T until(Function<? super WebDriver, T> condition) {
+        return until(null, condition);
+    }
+
+    public <T> T until(String latencyKey, Function<? super WebDriver, T> condition) {
+        long start = clock.millis();
+        long deadline = start + timeout.toMillis();
+        long interval = initialPollMillis;
+        boolean headStartTaken = false;
+        RuntimeException lastException = null;
+
+        while (true) {
+            try {
+                T value = condition.apply(driver);
+                if (isTruthy(value)) {
+                    learn(latencyKey, clock.millis() - start);
+                    return value;
+                }
+            } catch (NotFoundException | StaleElementReferenceException e) {
+                lastException = e;
+            }
+
+            long remainingMillis = deadline - clock.millis();
+            if (remainingMillis <= 0) {
+                throw new TimeoutException(String.format(
+                    "Expected condition failed: waiting for %s (tried for %d ms with adaptive polling from %d to %d ms)",
+                    condition, timeout.toMillis(), initialPollMillis, maxPollMillis), lastException);
+            }
+
+            long sleepMillis = interval;
+            Double learned = latencyKey == null ? null : learnedLatencyMillis.get(latencyKey);
+            if (!headStartTaken && learned != null) {
+                headStartTaken = true;
+                long elapsedMillis = clock.millis() - start;
+                sleepMillis = Math.max(interval, (long) (learned * LEARNED_HEAD_START) - elapsedMillis);
+            } else {
+                interval = Math.min(maxPollMillis, (long) Math.ceil(interval * backoffFactor));
+            }
+            sleep(Math.min(sleepMillis, remainingMillis));
+        }
+    }
+
+    public static Double getLearnedLatencyMillis(String latencyKey) {
+        return learnedLatencyMillis.get(latencyKey);
+    }
+
+    private static void learn(String latencyKey, long observedMillis) {
+        if (latencyKey != null) {
+            learnedLatencyMillis.merge(latencyKey, (double) observedMillis,
+                (previous, observed) -> previous + LEARNING_RATE * (observed - previous));
+        }
+    }
+
+    private static boolean isTruthy(Object value) {
+        if (value instanceof Boolean) {
+            return (Boolean) value;
+        }
+        return value != null;
+    }
+
+    private void sleep(long millis) {
+        try {
+            sleeper.sleep(Duration.ofMillis(millis));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new WebDriverException("Interrupted while waiting", e);
+        }
+    }
+}
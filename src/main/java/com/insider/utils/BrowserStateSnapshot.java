@@ -0,0 +1,149 @@
+package com.insider.utils;
+
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.chromium.HasCdp;
+import org.openqa.selenium.json.Json;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+public class BrowserStateSnapshot {
+
+    private static final Logger logger = LoggerFactory.getLogger(BrowserStateSnapshot.class);
+    private static final Json json = new Json();
+    private static final Set<String> COOKIE_PARAM_KEYS = Set.of(
+        "name", "value", "domain", "path", "secure", "httpOnly", "sameSite", "expires");
+
+    private static final String READ_LOCAL_STORAGE_SCRIPT =
+        "var entries = {};" +
+        "try {" +
+        "  for (var i = 0; i < window.localStorage.length; i++) {" +
+        "    var key = window.localStorage.key(i);" +
+        "    entries[key] = window.localStorage.getItem(key);" +
+        "  }" +
+        "} catch (e) {}" +
+        "return {origin: window.location.origin, entries: entries};";
+
+    private static final String SEED_LOCAL_STORAGE_TEMPLATE =
+        "(function () {" +
+        "  var state = %s;" +
+        "  var entries = state[window.location.origin];" +
+        "  if (!entries) { return; }" +
+        "  try {" +
+        "    for (var key in entries) {" +
+        "      if (window.localStorage.getItem(key) === null) { window.localStorage.setItem(key, entries[key]); }" +
+        "    }" +
+        "  } catch (e) {}" +
+        "})();";
+
+    private final long capturedAt;
+    private final List<Map<String, Object>> cookies;
+    private final Map<String, Map<String, Object>> localStorage;
+
+    private BrowserStateSnapshot(long capturedAt, List<Map<String, Object>> cookies,
+                                 Map<String, Map<String, Object>> localStorage) {
+        this.capturedAt = capturedAt;
+        this.cookies = cookies;
+        this.localStorage = localStorage;
+    }
+
+    @SuppressWarnings("unchecked")
+    public static BrowserStateSnapshot capture(WebDriver webDriver) {
+        if (!(webDriver instanceof HasCdp)) {
+            throw new IllegalArgumentException("Session state capture requires a Chromium based driver");
+        }
+        Map<String, Object> result = ((HasCdp) webDriver).executeCdpCommand("Network.getAllCookies", Map.of());
+        List<Map<String, Object>> cookies = new ArrayList<>();
+        for (Object cookie : (List<Object>) result.getOrDefault("cookies", List.of())) {
+            Map<String, Object> cookieParams = new LinkedHashMap<>();
+            ((Map<String, Object>) cookie).forEach((key, value) -> {
+                if (COOKIE_PARAM_KEYS.contains(key)) {
+                    cookieParams.put(key, value);
+                }
+            });
+            if (Boolean.TRUE.equals(((Map<String, Object>) cookie).get("session"))) {
+                cookieParams.remove("expires");
+            }
+            cookies.add(cookieParams);
+        }
+
+        Map<String, Object> storage = (Map<String, Object>) ((JavascriptExecutor) webDriver)
+            .executeScript(READ_LOCAL_STORAGE_SCRIPT);
+        Map<String, Map<String, Object>> localStorage = new HashMap<>();
+        Map<String, Object> entries = (Map<String, Object>) storage.get("entries");
+        if (entries != null && !entries.isEmpty()) {
+            localStorage.put((String) storage.get("origin"), entries);
+        }
+
+        logger.info("Captured session state with {} cookies and {} localStorage origin(s)", cookies.size(), localStorage.size());
+        return new BrowserStateSnapshot(System.currentTimeMillis(), cookies, localStorage);
+    }
+
+    public boolean applyTo(WebDriver webDriver, boolean installStorageSeed) {
+        if (!(webDriver instanceof HasCdp)) {
+            logger.debug("Skipping session state injection for non-Chromium driver");
+            return false;
+        }
+        HasCdp cdp = (HasCdp) webDriver;
+        if (!cookies.isEmpty()) {
+            cdp.executeCdpCommand("Network.setCookies", Map.of("cookies", cookies));
+        }
+        if (installStorageSeed && !localStorage.isEmpty()) {
+            cdp.executeCdpCommand("Page.addScriptToEvaluateOnNewDocument",
+                Map.of("source", String.format(SEED_LOCAL_STORAGE_TEMPLATE, json.toJson(localStorage))));
+        }
+        logger.debug("Injected session state with {} cookies", cookies.size());
+        return !cookies.isEmpty();
+    }
+
+    public boolean isOlderThan(Duration maxAge) {
+        return System.currentTimeMillis() - capturedAt > maxAge.toMillis();
+    }
+
+    public void save(Path file) {
+        Map<String, Object> document = new LinkedHashMap<>();
+        document.put("capturedAt", capturedAt);
+        document.put("cookies", cookies);
+        document.put("localStorage", localStorage);
+        try {
+            if (file.getParent() != null) {
+                Files.createDirectories(file.getParent());
+            }
+            Files.writeString(file, json.toJson(document), StandardCharsets.UTF_8);
+            logger.info("Saved session state to {}", file);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to save session state to " + file, e);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    public static Optional<BrowserStateSnapshot> load(Path file) {
+        if (!Files.isRegularFile(file)) {
+            return Optional.empty();
+        }
+        try {
+            Map<String, Object> document = json.toType(Files.readString(file, StandardCharsets.UTF_8), Json.MAP_TYPE);
+            return Optional.of(new BrowserStateSnapshot(
+                ((Number) document.get("capturedAt")).longValue(),
+                (List<Map<String, Object>>) document.getOrDefault("cookies", List.of()),
+                (Map<String, Map<String, Object>>) document.getOrDefault("localStorage", Map.of())));
+        } catch (IOException | RuntimeException e) {
+            logger.warn("Ignoring unreadable session state file {}: {}", file, e.getMessage());
+            return Optional.empty();
+        }
+    }
+}
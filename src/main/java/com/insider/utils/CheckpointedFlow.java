@@ -0,0 +1,75 @@
+package com.insider.utils;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.testng.ITestResult;
+import org.testng.Reporter;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+public class CheckpointedFlow {
+
+    private static final Logger logger = LoggerFactory.getLogger(CheckpointedFlow.class);
+    private static final Map<String, Integer> checkpoints = new ConcurrentHashMap<>();
+
+    private record Step(String name, Runnable restorePrecondition, Runnable action) {
+    }
+
+    private final String flowKey;
+    private final List<Step> steps = new ArrayList<>();
+
+    public CheckpointedFlow() {
+        this(currentTestKey());
+    }
+
+    public CheckpointedFlow(String flowKey) {
+        this.flowKey = flowKey;
+    }
+
+    public static String testKey(ITestResult testResult) {
+        return testResult.getTestClass().getRealClass().getName() + "#" + testResult.getMethod().getMethodName();
+    }
+
+    public static int getCheckpoint(String flowKey) {
+        return checkpoints.getOrDefault(flowKey, 0);
+    }
+
+    public static void clearCheckpoint(String flowKey) {
+        checkpoints.remove(flowKey);
+    }
+
+    public CheckpointedFlow step(String name, Runnable restorePrecondition, Runnable action) {
+        steps.add(new Step(name, restorePrecondition, action));
+        return this;
+    }
+
+    public void run() {
+        int resumeFrom = Math.min(getCheckpoint(flowKey), steps.size());
+        if (resumeFrom > 0 && resumeFrom < steps.size()) {
+            Step resumed = steps.get(resumeFrom);
+            logger.info("Resuming '{}' at step '{}', skipping {} completed step(s)", flowKey, resumed.name(), resumeFrom);
+            long start = System.nanoTime();
+            resumed.restorePrecondition().run();
+            logger.info("Restored precondition for step '{}' in {} ms", resumed.name(), (System.nanoTime() - start) / 1_000_000);
+        }
+
+        for (int index = resumeFrom; index < steps.size(); index++) {
+            Step step = steps.get(index);
+            logger.debug("Running step {}/{} '{}' of '{}'", index + 1, steps.size(), step.name(), flowKey);
+            step.action().run();
+            checkpoints.put(flowKey, index + 1);
+        }
+        clearCheckpoint(flowKey);
+    }
+
+    private static String currentTestKey() {
+        ITestResult testResult = Reporter.getCurrentTestResult();
+        if (testResult == null) {
+            throw new IllegalStateException("CheckpointedFlow needs a flow key when used outside a TestNG test");
+        }
+        return testKey(testResult);
+    }
+}
@@ -0,0 +1,319 @@
+package com.insider.utils;
+
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.PageLoadStrategy;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.chrome.ChromeOptions;
+import org.openqa.selenium.support.ui.WebDriverWait;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.file.FileVisitResult;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.nio.file.attribute.FileTime;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+public class ChromeProfileTemplate {
+
+    private static final Logger logger = LoggerFactory.getLogger(ChromeProfileTemplate.class);
+
+    private static final String CLONE_PREFIX = "insider-chrome-profile-";
+    private static final String READY_MARKER = ".template-ready";
+    private static final Duration STALE_CLONE_AGE = Duration.ofHours(6);
+    private static final Duration REBUILD_LOCK_TIMEOUT = Duration.ofSeconds(30);
+    private static final Set<String> LOCK_FILES = Set.of("SingletonLock", "SingletonCookie", "SingletonSocket", "lockfile");
+    private static final List<String> SESSION_DATA = List.of(
+        "Default/Cookies", "Default/Cookies-journal", "Default/Local Storage", "Default/Session Storage",
+        "Default/Sessions", "Default/History", "Default/History-journal", "Default/Current Session",
+        "Default/Current Tabs", "Default/Last Session", "Default/Last Tabs");
+
+    private final Path templateDir;
+    private final Path lockFile;
+    private final long maxBytes;
+    private final Duration maxAge;
+    private final List<String> warmUpPaths;
+    private volatile boolean usable;
+    private volatile boolean built;
+    private FileLock sharedLock;
+
+    public ChromeProfileTemplate(Path templateDir, long maxBytes, Duration maxAge, List<String> warmUpPaths) {
+        this.templateDir = templateDir.toAbsolutePath();
+        this.lockFile = this.templateDir.resolveSibling(this.templateDir.getFileName() + ".lock");
+        this.maxBytes = maxBytes;
+        this.maxAge = maxAge;
+        this.warmUpPaths = warmUpPaths;
+    }
+
+    public static ChromeProfileTemplate fromConfig() {
+        return new ChromeProfileTemplate(Path.of(TestConfig.getChromeProfileTemplateDir()),
+            TestConfig.getChromeProfileMaxMegabytes() * 1024 * 1024,
+            Duration.ofMinutes(TestConfig.getChromeProfileMaxAgeMinutes()),
+            TestConfig.getChromeProfileWarmUpPaths());
+    }
+
+    public synchronized void ensureBuilt(Supplier<ChromeOptions> optionsFactory, Function<ChromeOptions, WebDriver> launcher,
+                                         Consumer<WebDriver> disposer) {
+        if (built) {
+            return;
+        }
+        built = true;
+        reapStaleClones();
+        try {
+            Files.createDirectories(lockFile.getParent());
+            FileChannel lockChannel = FileChannel.open(lockFile, StandardOpenOption.CREATE, StandardOpenOption.WRITE);
+            FileLock lock = lockChannel.lock(0, Long.MAX_VALUE, true);
+            if (isFresh()) {
+                logger.info("Reusing Chrome profile template at {} ({} MB)", templateDir, sizeOf(templateDir) / (1024 * 1024));
+            } else {
+                lock.release();
+                lock = rebuild(lockChannel, optionsFactory, launcher, disposer);
+                if (lock == null) {
+                    lockChannel.close();
+                    return;
+                }
+            }
+            sharedLock = lock;
+            usable = true;
+        } catch (IOException e) {
+            logger.warn("Failed to lock Chrome profile template {}, falling back to throwaway profiles: {}", lockFile, e.getMessage());
+        }
+    }
+
+    private FileLock rebuild(FileChannel lockChannel, Supplier<ChromeOptions> optionsFactory,
+                             Function<ChromeOptions, WebDriver> launcher, Consumer<WebDriver> disposer) throws IOException {
+        FileLock exclusive = tryLockExclusive(lockChannel);
+        if (exclusive == null) {
+            logger.warn("Chrome profile template {} is stale but still in use by another run, falling back to throwaway profiles",
+                templateDir);
+            return null;
+        }
+        try {
+            if (!isFresh()) {
+                build(optionsFactory.get(), launcher, disposer);
+            }
+        } catch (WebDriverException | UncheckedIOException e) {
+            logger.warn("Failed to build Chrome profile template, falling back to throwaway profiles: {}", e.getMessage());
+            exclusive.release();
+            return null;
+        }
+        exclusive.release();
+        FileLock shared = lockChannel.lock(0, Long.MAX_VALUE, true);
+        if (!isFresh()) {
+            shared.release();
+            return null;
+        }
+        return shared;
+    }
+
+    private static FileLock tryLockExclusive(FileChannel lockChannel) throws IOException {
+        long deadline = System.nanoTime() + REBUILD_LOCK_TIMEOUT.toNanos();
+        while (true) {
+            FileLock lock = lockChannel.tryLock();
+            if (lock != null || System.nanoTime() >= deadline) {
+                return lock;
+            }
+            try {
+                Thread.sleep(250);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return null;
+            }
+        }
+    }
+
+    public boolean isUsable() {
+        return usable;
+    }
+
+    public Path cloneProfile() {
+        if (!usable) {
+            throw new IllegalStateException("Chrome profile template is not available");
+        }
+        try {
+            Path clone = Files.createTempDirectory(CLONE_PREFIX);
+            copyTree(templateDir, clone);
+            return clone;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to clone Chrome profile template " + templateDir, e);
+        }
+    }
+
+    public void applyCacheLimit(ChromeOptions chromeOptions) {
+        chromeOptions.addArguments("--disk-cache-size=" + maxBytes);
+    }
+
+    public static void deleteProfile(Path profileDir) {
+        deleteQuietly(profileDir);
+    }
+
+    private void build(ChromeOptions chromeOptions, Function<ChromeOptions, WebDriver> launcher, Consumer<WebDriver> disposer) {
+        long start = System.nanoTime();
+        Path staging;
+        try {
+            staging = Files.createTempDirectory(templateDir.getParent(), templateDir.getFileName() + ".build-");
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to create Chrome profile template staging directory next to " + templateDir, e);
+        }
+        try {
+            chromeOptions.addArguments("--user-data-dir=" + staging);
+            applyCacheLimit(chromeOptions);
+            chromeOptions.setPageLoadStrategy(PageLoadStrategy.NORMAL);
+
+            WebDriver webDriver = launcher.apply(chromeOptions);
+            try {
+                for (String path : warmUpPaths) {
+                    webDriver.get(TestConfig.url(path));
+                    new WebDriverWait(webDriver, Duration.ofSeconds(TestConfig.getWaitTimeoutSeconds())).until(
+                        d -> "complete".equals(((JavascriptExecutor) d).executeScript("return document.readyState")));
+                    logger.debug("Warmed Chrome profile template with {}", path);
+                }
+            } finally {
+                disposer.accept(webDriver);
+            }
+
+            for (String sessionData : SESSION_DATA) {
+                deleteQuietly(staging.resolve(sessionData));
+            }
+            long size = sizeOf(staging);
+            if (size > maxBytes) {
+                throw new UncheckedIOException(new IOException(String.format(
+                    "Chrome profile template is %d MB, over the %d MB limit", size / (1024 * 1024), maxBytes / (1024 * 1024))));
+            }
+            writeMarker(staging);
+            publish(staging);
+            logger.info("Built Chrome profile template at {} from {} page(s) in {} ms ({} MB)", templateDir,
+                warmUpPaths.size(), (System.nanoTime() - start) / 1_000_000, size / (1024 * 1024));
+        } finally {
+            deleteQuietly(staging);
+        }
+    }
+
+    private void publish(Path staging) {
+        Path previous = templateDir.resolveSibling(templateDir.getFileName() + ".old-" + ProcessHandle.current().pid());
+        try {
+            if (Files.exists(templateDir)) {
+                Files.move(templateDir, previous, StandardCopyOption.ATOMIC_MOVE);
+            }
+            Files.move(staging, templateDir, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to move Chrome profile template into " + templateDir, e);
+        } finally {
+            deleteQuietly(previous);
+        }
+    }
+
+    private boolean isFresh() {
+        Path marker = templateDir.resolve(READY_MARKER);
+        try {
+            return Files.isRegularFile(marker)
+                && Files.readString(marker).trim().equals(TestConfig.getBaseUrl())
+                && Files.getLastModifiedTime(marker).toInstant().isAfter(Instant.now().minus(maxAge))
+                && sizeOf(templateDir) <= maxBytes;
+        } catch (IOException e) {
+            return false;
+        }
+    }
+
+    private static void writeMarker(Path profileDir) {
+        try {
+            Files.writeString(profileDir.resolve(READY_MARKER), TestConfig.getBaseUrl());
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to mark Chrome profile template as ready", e);
+        }
+    }
+
+    private static void reapStaleClones() {
+        Path tempDir = Path.of(System.getProperty("java.io.tmpdir"));
+        FileTime cutoff = FileTime.from(Instant.now().minus(STALE_CLONE_AGE));
+        try (var entries = Files.newDirectoryStream(tempDir, CLONE_PREFIX + "*")) {
+            for (Path entry : entries) {
+                if (Files.getLastModifiedTime(entry).compareTo(cutoff) < 0) {
+                    logger.debug("Removing stale Chrome profile clone {}", entry);
+                    deleteQuietly(entry);
+                }
+            }
+        } catch (IOException e) {
+            logger.debug("Could not scan {} for stale Chrome profile clones: {}", tempDir, e.getMessage());
+        }
+    }
+
+    private static void copyTree(Path source, Path target) throws IOException {
+        Files.walkFileTree(source, new SimpleFileVisitor<>() {
+            @Override
+            public FileVisitResult preVisitDirectory(Path dir, BasicFileAttributes attrs) throws IOException {
+                Files.createDirectories(target.resolve(source.relativize(dir).toString()));
+                return FileVisitResult.CONTINUE;
+            }
+
+            @Override
+            public FileVisitResult visitFile(Path file, BasicFileAttributes attrs) throws IOException {
+                String name = file.getFileName().toString();
+                if (!LOCK_FILES.contains(name) && !READY_MARKER.equals(name) && attrs.isRegularFile()) {
+                    Files.copy(file, target.resolve(source.relativize(file).toString()), StandardCopyOption.COPY_ATTRIBUTES);
+                }
+                return FileVisitResult.CONTINUE;
+            }
+        });
+    }
+
+    private static long sizeOf(Path dir) {
+        AtomicLong size = new AtomicLong();
+        try {
+            Files.walkFileTree(dir, new SimpleFileVisitor<>() {
+                @Override
+                public FileVisitResult visitFile(Path file, BasicFileAttributes attrs) {
+                    size.addAndGet(attrs.size());
+                    return FileVisitResult.CONTINUE;
+                }
+
+                @Override
+                public FileVisitResult visitFileFailed(Path file, IOException e) {
+                    return FileVisitResult.CONTINUE;
+                }
+            });
+        } catch (IOException e) {
+            logger.debug("Could not measure {}: {}", dir, e.getMessage());
+        }
+        return size.get();
+    }
+
+    private static void deleteQuietly(Path path) {
+        if (!Files.exists(path)) {
+            return;
+        }
+        try {
+            Files.walkFileTree(path, new SimpleFileVisitor<>() {
+                @Override
+                public FileVisitResult visitFile(Path file, BasicFileAttributes attrs) throws IOException {
+                    Files.deleteIfExists(file);
+                    return FileVisitResult.CONTINUE;
+                }
+
+                @Override
+                public FileVisitResult postVisitDirectory(Path dir, IOException e) throws IOException {
+                    Files.deleteIfExists(dir);
+                    return FileVisitResult.CONTINUE;
+                }
+            });
+        } catch (IOException e) {
+            logger.warn("Failed to delete {}: {}", path, e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,159 @@
+package com.insider.utils;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.LocalTime;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+public class CommandMetrics {
+
+    private static final Logger logger = LoggerFactory.getLogger(CommandMetrics.class);
+    private static final Logger testResultsLogger = LoggerFactory.getLogger("TEST_RESULTS");
+
+    private static final long[] BUCKET_BOUNDS_MILLIS = {1, 5, 10, 25, 50, 100, 250, 500, 1000, 2500, 5000};
+    private static final int TRACE_SIZE = 50;
+    private static final ThreadLocal<CommandMetrics> current = new ThreadLocal<>();
+    private static final ThreadLocal<Deque<String>> recentCommands = ThreadLocal.withInitial(ArrayDeque::new);
+
+    private final String testName;
+    private final Map<String, CommandStats> stats = new ConcurrentHashMap<>();
+
+    private CommandMetrics(String testName) {
+        this.testName = testName;
+    }
+
+    public static void startTest(String testName) {
+        current.set(new CommandMetrics(testName));
+        recentCommands.get().clear();
+    }
+
+    public static CommandMetrics current() {
+        return current.get();
+    }
+
+    public static CommandMetrics finishTest() {
+        CommandMetrics metrics = current.get();
+        current.remove();
+        if (metrics != null) {
+            metrics.logSummary();
+        }
+        return metrics;
+    }
+
+    public static void trace(String command, String caller, long durationNanos, Throwable error) {
+        Deque<String> trace = recentCommands.get();
+        if (trace.size() == TRACE_SIZE) {
+            trace.pollFirst();
+        }
+        trace.addLast(LocalTime.now() + " " + command + " @ " + caller + " " + durationNanos / 1_000_000 + " ms"
+            + (error == null ? "" : " FAILED: " + error.getClass().getSimpleName()));
+    }
+
+    public static List<String> getRecentCommands() {
+        return new ArrayList<>(recentCommands.get());
+    }
+
+    public void record(String command, String caller, long durationNanos) {
+        stats.computeIfAbsent(command + " @ " + caller, key -> new CommandStats(command, caller))
+            .record(durationNanos);
+    }
+
+    public String getTestName() {
+        return testName;
+    }
+
+    public List<CommandStats> getStats() {
+        List<CommandStats> sorted = new ArrayList<>(stats.values());
+        sorted.sort((a, b) -> Long.compare(b.getTotalNanos(), a.getTotalNanos()));
+        return sorted;
+    }
+
+    public long getTotalCommands() {
+        return stats.values().stream().mapToLong(CommandStats::getCount).sum();
+    }
+
+    public long getTotalNanos() {
+        return stats.values().stream().mapToLong(CommandStats::getTotalNanos).sum();
+    }
+
+    private void logSummary() {
+        logger.info("WebDriver command summary for '{}': {} commands, {} ms total",
+            testName, getTotalCommands(), getTotalNanos() / 1_000_000);
+        for (CommandStats stat : getStats()) {
+            logger.info("  {} @ {} | count: {} | total: {} ms | avg: {} ms | p95: <= {} ms | max: {} ms",
+                stat.getCommand(), stat.getCaller(), stat.getCount(), stat.getTotalNanos() / 1_000_000,
+                stat.getAverageMillis(), stat.getPercentileUpperBoundMillis(0.95), stat.getMaxNanos() / 1_000_000);
+        }
+        testResultsLogger.info("WEBDRIVER COMMANDS: {} - {} commands in {} ms",
+            testName, getTotalCommands(), getTotalNanos() / 1_000_000);
+    }
+
+    public static class CommandStats {
+
+        private final String command;
+        private final String caller;
+        private final long[] buckets = new long[BUCKET_BOUNDS_MILLIS.length + 1];
+        private long count;
+        private long totalNanos;
+        private long maxNanos;
+
+        CommandStats(String command, String caller) {
+            this.command = command;
+            this.caller = caller;
+        }
+
+        synchronized void record(long durationNanos) {
+            count++;
+            totalNanos += durationNanos;
+            maxNanos = Math.max(maxNanos, durationNanos);
+            long millis = durationNanos / 1_000_000;
+            int bucket = 0;
+            while (bucket < BUCKET_BOUNDS_MILLIS.length && millis >= BUCKET_BOUNDS_MILLIS[bucket]) {
+                bucket++;
+            }
+            buckets[bucket]++;
+        }
+
+        public String getCommand() {
+            return command;
+        }
+
+        public String getCaller() {
+            return caller;
+        }
+
+        public synchronized long getCount() {
+            return count;
+        }
+
+        public synchronized long getTotalNanos() {
+            return totalNanos;
+        }
+
+        public synchronized long getMaxNanos() {
+            return maxNanos;
+        }
+
+        public synchronized long getAverageMillis() {
+            return count == 0 ? 0 : totalNanos / count / 1_000_000;
+        }
+
+        public synchronized long getPercentileUpperBoundMillis(double percentile) {
+            long threshold = (long) Math.ceil(count * percentile);
+            long seen = 0;
+            for (int i = 0; i < buckets.length; i++) {
+                seen += buckets[i];
+                if (seen >= threshold) {
+                    return i < BUCKET_BOUNDS_MILLIS.length ? BUCKET_BOUNDS_MILLIS[i] : maxNanos / 1_000_000;
+                }
+            }
+            return maxNanos / 1_000_000;
+        }
+    }
+}
@@ -0,0 +1,98 @@
+package com.insider.utils;
+
+import org.openqa.selenium.support.events.WebDriverListener;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Set;
+
+public class CommandTimingListener implements WebDriverListener {
+
+    private static final String PAGES_PACKAGE = "com.insider.pages.";
+    private static final String BASE_PAGE = "com.insider.pages.BasePage";
+    private static final String TESTS_PACKAGE = "com.insider.tests.";
+    private static final Set<String> LOCAL_METHODS = Set.of(
+        "manage", "timeouts", "switchTo", "navigate", "getWrappedDriver", "getWrappedElement",
+        "toString", "hashCode", "equals", "getDevTools", "maybeGetDevTools");
+
+    private static final StackWalker stackWalker = StackWalker.getInstance();
+    private final ThreadLocal<Deque<Long>> startTimes = ThreadLocal.withInitial(ArrayDeque::new);
+
+    @Override
+    public void beforeAnyCall(Object target, Method method, Object[] args) {
+        if (isRecorded(method)) {
+            startTimes.get().push(System.nanoTime());
+        }
+    }
+
+    @Override
+    public void afterAnyCall(Object target, Method method, Object[] args, Object result) {
+        complete(method, null);
+    }
+
+    @Override
+    public void onError(Object target, Method method, Object[] args, InvocationTargetException e) {
+        complete(method, e.getTargetException());
+    }
+
+    private void complete(Method method, Throwable error) {
+        if (!isRecorded(method)) {
+            return;
+        }
+        Long start = startTimes.get().poll();
+        if (start == null) {
+            return;
+        }
+        long durationNanos = System.nanoTime() - start;
+        String caller = findCaller();
+        CommandMetrics.trace(method.getName(), caller, durationNanos, error);
+        CommandMetrics metrics = CommandMetrics.current();
+        if (metrics != null) {
+            metrics.record(method.getName(), caller, durationNanos);
+        }
+    }
+
+    private static boolean isRecorded(Method method) {
+        if ("window".equals(method.getName())) {
+            return method.getParameterCount() > 0;
+        }
+        return !LOCAL_METHODS.contains(method.getName());
+    }
+
+    static String findCaller() {
+        return stackWalker.walk(frames -> {
+            String basePageCaller = null;
+            String testCaller = null;
+            for (StackWalker.StackFrame frame : (Iterable<StackWalker.StackFrame>) frames::iterator) {
+                String className = frame.getClassName();
+                if (className.startsWith(PAGES_PACKAGE)) {
+                    if (!className.equals(BASE_PAGE)) {
+                        return describe(frame);
+                    }
+                    if (basePageCaller == null) {
+                        basePageCaller = describe(frame);
+                    }
+                } else if (testCaller == null && className.startsWith(TESTS_PACKAGE)) {
+                    testCaller = describe(frame);
+                }
+            }
+            if (basePageCaller != null) {
+                return basePageCaller;
+            }
+            return testCaller != null ? testCaller : "unattributed";
+        });
+    }
+
+    private static String describe(StackWalker.StackFrame frame) {
+        String className = frame.getClassName();
+        String simpleName = className.substring(className.lastIndexOf('.') + 1);
+        String methodName = frame.getMethodName();
+        if (methodName.startsWith("lambda$")) {
+            int end = methodName.indexOf('$', "lambda$".length());
+            methodName = end > 0 ? methodName.substring("lambda$".length(), end) : methodName;
+        }
+        return simpleName + "." + methodName;
+    }
+}
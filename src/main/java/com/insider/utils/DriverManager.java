@@ -1,55 +1,324 @@
 package com.insider.utils;
+import org.openqa.selenium.PageLoadStrategy;
 import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.chrome.ChromeDriver;
 import org.openqa.selenium.chrome.ChromeOptions;
 import org.openqa.selenium.firefox.FirefoxDriver;
+import org.openqa.selenium.firefox.FirefoxOptions;
 import org.openqa.selenium.edge.EdgeDriver;
+import org.openqa.selenium.edge.EdgeOptions;
+import org.openqa.selenium.support.events.EventFiringDecorator;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
 
 public class DriverManager {
-    
+
+    private static final Logger logger = LoggerFactory.getLogger(DriverManager.class);
+
     private static ThreadLocal<WebDriver> driver = new ThreadLocal<>();
-    
+    private static ThreadLocal<DriverPool> leasedFrom = new ThreadLocal<>();
+    private static final Map<String, DriverPool> pools = new ConcurrentHashMap<>();
+    private static final Map<WebDriver, NetworkBlocker> networkBlockers = new ConcurrentHashMap<>();
+    private static final Set<WebDriver> storageSeededDrivers = ConcurrentHashMap.newKeySet();
+    private static final Map<WebDriver, Path> profileClones = new ConcurrentHashMap<>();
+    private static final ChromeProfileTemplate profileTemplate = ChromeProfileTemplate.fromConfig();
+    private static final Map<String, CompletableFuture<WebDriver>> preWarmedDrivers = new ConcurrentHashMap<>();
+    private static volatile BrowserStateSnapshot sessionStateSnapshot;
+
+    static {
+        Runtime.getRuntime().addShutdownHook(new Thread(DriverManager::shutdownPool, "driver-pool-shutdown"));
+    }
+
     public static void initializeDriver(String browserName) {
+        if (TestConfig.isDriverPoolEnabled()) {
+            DriverPool pool = getPool(browserName);
+            driver.set(pool.lease());
+            leasedFrom.set(pool);
+        } else {
+            driver.set(takePreWarmedDriver(browserName));
+        }
+        applySessionState(driver.get());
+    }
+
+    public static void preWarm(String browserName, int sessionCount) {
+        if (TestConfig.isDriverPoolEnabled()) {
+            getPool(browserName).warmUpInBackground(sessionCount);
+            return;
+        }
+        preWarmedDrivers.computeIfAbsent(browserName.toLowerCase(), name -> {
+            logger.info("Launching one {} session in the background", name);
+            return CompletableFuture.supplyAsync(() -> createDriver(name), runnable -> {
+                Thread launcher = new Thread(runnable, "driver-prewarm-" + name);
+                launcher.setDaemon(true);
+                launcher.start();
+            });
+        });
+    }
+
+    private static WebDriver takePreWarmedDriver(String browserName) {
+        CompletableFuture<WebDriver> preWarmed = preWarmedDrivers.remove(browserName.toLowerCase());
+        if (preWarmed != null) {
+            try {
+                WebDriver webDriver = preWarmed.join();
+                logger.debug("Using background-launched {} session", browserName);
+                return webDriver;
+            } catch (CompletionException e) {
+                logger.warn("Background {} launch failed, launching a new session: {}", browserName, e.getCause().getMessage());
+            }
+        }
+        return createDriver(browserName);
+    }
+
+    public static boolean loadSessionState() {
+        Path file = Path.of(TestConfig.getSessionStateFile());
+        Optional<BrowserStateSnapshot> snapshot = BrowserStateSnapshot.load(file);
+        if (snapshot.isPresent() && !snapshot.get().isOlderThan(Duration.ofMinutes(TestConfig.getSessionStateMaxAgeMinutes()))) {
+            sessionStateSnapshot = snapshot.get();
+            logger.info("Loaded session state from {}", file);
+            return true;
+        }
+        return false;
+    }
+
+    public static void captureSessionState() {
+        BrowserStateSnapshot snapshot = BrowserStateSnapshot.capture(getDriver());
+        snapshot.save(Path.of(TestConfig.getSessionStateFile()));
+        sessionStateSnapshot = snapshot;
+    }
+
+    private static void applySessionState(WebDriver webDriver) {
+        BrowserStateSnapshot snapshot = sessionStateSnapshot;
+        if (snapshot == null || !TestConfig.isSessionStateEnabled()) {
+            return;
+        }
+        try {
+            if (snapshot.applyTo(webDriver, storageSeededDrivers.add(webDriver))) {
+                SessionState.set(webDriver, SessionState.COOKIE_CONSENT_OVERLAY);
+            }
+        } catch (RuntimeException e) {
+            logger.warn("Failed to inject session state, continuing with a blank session: {}", e.getMessage());
+        }
+    }
+
+    public static WebDriver createDriver(String browserName) {
+        if ("chrome".equalsIgnoreCase(browserName) && TestConfig.isChromeProfileTemplateEnabled()) {
+            profileTemplate.ensureBuilt(DriverManager::chromeOptions,
+                options -> admit(browserName, () -> newChromeDriver(options)), DriverManager::disposeDriver);
+        }
+        return admit(browserName, () -> launchDriver(browserName));
+    }
+
+    private static WebDriver admit(String browserName, Supplier<WebDriver> launcher) {
+        ResourceGovernor.awaitCapacity(browserName);
+        WebDriver webDriver;
+        try {
+            webDriver = launcher.get();
+        } catch (RuntimeException e) {
+            ResourceGovernor.cancelAdmission();
+            throw e;
+        }
+        ResourceGovernor.register(webDriver);
+        return webDriver;
+    }
+
+    private static WebDriver launchDriver(String browserName) {
+        PageLoadStrategy pageLoadStrategy = PageLoadStrategy.fromString(TestConfig.getPageLoadStrategy());
+        if (pageLoadStrategy == null) {
+            throw new IllegalArgumentException("Page load strategy not supported: " + TestConfig.getPageLoadStrategy());
+        }
+        WebDriver webDriver;
+        NetworkBlocker networkBlocker = null;
+        Path profileClone = null;
         switch (browserName.toLowerCase()) {
             case "chrome":
-                String chromeDriverPath = System.getProperty("user.dir") + "/web_driver/chromedriver";
-                System.setProperty("webdriver.chrome.driver", chromeDriverPath);
-                
-                ChromeOptions chromeOptions = new ChromeOptions();
-                chromeOptions.addArguments("--disable-notifications");
-                chromeOptions.addArguments("--disable-popup-blocking");
-                chromeOptions.addArguments("--disable-web-security");
-                chromeOptions.addArguments("--no-sandbox");
-                chromeOptions.addArguments("--disable-dev-shm-usage");
-                chromeOptions.addArguments("--remote-allow-origins=*");
-                chromeOptions.addArguments("--disable-gpu");
-                chromeOptions.addArguments("--window-size=1920,1080");
-                driver.set(new ChromeDriver(chromeOptions));
+                ChromeOptions chromeOptions = chromeOptions();
+                chromeOptions.setPageLoadStrategy(pageLoadStrategy);
+                if (TestConfig.isChromeProfileTemplateEnabled() && profileTemplate.isUsable()) {
+                    profileClone = profileTemplate.cloneProfile();
+                    chromeOptions.addArguments("--user-data-dir=" + profileClone);
+                    profileTemplate.applyCacheLimit(chromeOptions);
+                }
+                ChromeDriver chromeDriver;
+                try {
+                    chromeDriver = newChromeDriver(chromeOptions);
+                } catch (RuntimeException e) {
+                    if (profileClone != null) {
+                        ChromeProfileTemplate.deleteProfile(profileClone);
+                    }
+                    throw e;
+                }
+                if (TestConfig.isNetworkBlockingEnabled()) {
+                    networkBlocker = NetworkBlocker.attach(chromeDriver,
+                        TestConfig.getBlockedUrlPatterns(), TestConfig.getBlockedResourceTypes());
+                }
+                webDriver = chromeDriver;
                 break;
-                
+
             case "firefox":
-                driver.set(new FirefoxDriver());
+                FirefoxOptions firefoxOptions = new FirefoxOptions();
+                firefoxOptions.setPageLoadStrategy(pageLoadStrategy);
+                webDriver = TestConfig.isSharedDriverServiceEnabled()
+                    ? new FirefoxDriver(DriverServices.firefox(firefoxOptions), firefoxOptions)
+                    : new FirefoxDriver(firefoxOptions);
                 break;
-                
+
             case "edge":
-                driver.set(new EdgeDriver());
+                EdgeOptions edgeOptions = new EdgeOptions();
+                if (TestConfig.isResourceGovernorEnabled()) {
+                    edgeOptions.addArguments(ResourceGovernor.markerArgument());
+                }
+                edgeOptions.setPageLoadStrategy(pageLoadStrategy);
+                webDriver = TestConfig.isSharedDriverServiceEnabled()
+                    ? new EdgeDriver(DriverServices.edge(edgeOptions), edgeOptions)
+                    : new EdgeDriver(edgeOptions);
                 break;
-                
+
             default:
                 throw new IllegalArgumentException("Browser not supported: " + browserName);
         }
-        
-        getDriver().manage().window().maximize();
+
+        webDriver.manage().window().maximize();
+        if (TestConfig.isDriverMetricsEnabled()) {
+            webDriver = new EventFiringDecorator<>(new CommandTimingListener()).decorate(webDriver);
+        }
+        if (networkBlocker != null) {
+            networkBlockers.put(webDriver, networkBlocker);
+        }
+        if (profileClone != null) {
+            profileClones.put(webDriver, profileClone);
+        }
+        return webDriver;
+    }
+
+    private static ChromeDriver newChromeDriver(ChromeOptions chromeOptions) {
+        String chromeDriverPath = System.getProperty("user.dir") + "/web_driver/chromedriver";
+        System.setProperty("webdriver.chrome.driver", chromeDriverPath);
+        return TestConfig.isSharedDriverServiceEnabled()
+            ? new ChromeDriver(DriverServices.chrome(chromeOptions), chromeOptions)
+            : new ChromeDriver(chromeOptions);
+    }
+
+    private static ChromeOptions chromeOptions() {
+        ChromeOptions chromeOptions = new ChromeOptions();
+        chromeOptions.addArguments("--disable-notifications");
+        chromeOptions.addArguments("--disable-popup-blocking");
+        chromeOptions.addArguments("--disable-web-security");
+        chromeOptions.addArguments("--no-sandbox");
+        chromeOptions.addArguments("--disable-dev-shm-usage");
+        chromeOptions.addArguments("--remote-allow-origins=*");
+        chromeOptions.addArguments("--disable-gpu");
+        chromeOptions.addArguments("--window-size=1920,1080");
+        if (TestConfig.isResourceGovernorEnabled()) {
+            chromeOptions.addArguments(ResourceGovernor.markerArgument());
+        }
+        return chromeOptions;
+    }
+
+    public static void warmUpPool(String browserName, int sessionCount) {
+        if (TestConfig.isDriverPoolEnabled()) {
+            getPool(browserName).warmUp(sessionCount);
+        }
     }
-    
+
     public static WebDriver getDriver() {
         return driver.get();
     }
-    
+
+    public static NetworkBlocker getNetworkBlocker() {
+        WebDriver current = driver.get();
+        return current == null ? null : networkBlockers.get(current);
+    }
+
     public static void quitDriver() {
-        if (driver.get() != null) {
-            driver.get().quit();
+        WebDriver current = driver.get();
+        if (current == null) {
+            return;
+        }
+        try {
+            NetworkBlocker networkBlocker = networkBlockers.get(current);
+            if (networkBlocker != null) {
+                networkBlocker.logAndResetStats();
+            }
+            DriverPool pool = leasedFrom.get();
+            if (pool != null) {
+                pool.release(current);
+            } else {
+                disposeDriver(current);
+            }
+        } finally {
             driver.remove();
+            leasedFrom.remove();
+        }
+    }
+
+    public static void shutdownPool() {
+        for (String browserName : preWarmedDrivers.keySet()) {
+            CompletableFuture<WebDriver> preWarmed = preWarmedDrivers.remove(browserName);
+            if (preWarmed != null) {
+                disposePreWarmed(browserName, preWarmed);
+            }
         }
+        for (String browserName : pools.keySet()) {
+            DriverPool pool = pools.remove(browserName);
+            if (pool != null) {
+                pool.shutdown();
+            }
+        }
+        DriverServices.stopAll();
+        ResourceGovernor.reapOwnedProcesses();
+    }
+
+    private static void disposePreWarmed(String browserName, CompletableFuture<WebDriver> preWarmed) {
+        int timeoutSeconds = TestConfig.getDriverPreWarmShutdownTimeoutSeconds();
+        try {
+            disposeDriver(preWarmed.get(timeoutSeconds, TimeUnit.SECONDS));
+        } catch (TimeoutException e) {
+            logger.warn("Background {} launch still running after {} s, leaving it to process cleanup", browserName, timeoutSeconds);
+        } catch (ExecutionException e) {
+            logger.debug("Unused background {} launch had failed: {}", browserName, e.getCause().getMessage());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (RuntimeException e) {
+            logger.warn("Failed to dispose unused background {} session: {}", browserName, e.getMessage());
+        }
+    }
+
+    private static void disposeDriver(WebDriver webDriver) {
+        networkBlockers.remove(webDriver);
+        storageSeededDrivers.remove(webDriver);
+        SessionState.clear(webDriver);
+        boolean quitFailed = true;
+        try {
+            webDriver.quit();
+            quitFailed = false;
+        } finally {
+            ResourceGovernor.release(webDriver, quitFailed);
+            Path profileClone = profileClones.remove(webDriver);
+            if (profileClone != null) {
+                ChromeProfileTemplate.deleteProfile(profileClone);
+            }
+        }
+    }
+
+    private static DriverPool getPool(String browserName) {
+        String key = browserName.toLowerCase();
+        return pools.computeIfAbsent(key, name -> {
+            logger.info("Creating {} driver pool with up to {} session(s)", name, TestConfig.getDriverPoolSize());
+            return new DriverPool(name, TestConfig.getDriverPoolSize(), () -> createDriver(name),
+                DriverManager::disposeDriver);
+        });
     }
 }
@@ -0,0 +1,240 @@
+package com.insider.utils;
+
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.chromium.HasCdp;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.BlockingDeque;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.LinkedBlockingDeque;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+public class DriverPool {
+
+    private static final Logger logger = LoggerFactory.getLogger(DriverPool.class);
+
+    private final String browserName;
+    private final int maxSize;
+    private final Supplier<WebDriver> driverFactory;
+    private final Consumer<WebDriver> driverDisposer;
+    private final BlockingDeque<WebDriver> idleDrivers = new LinkedBlockingDeque<>();
+    private final Set<WebDriver> allDrivers = ConcurrentHashMap.newKeySet();
+    private final Semaphore leasePermits;
+    private final AtomicInteger pendingLaunches = new AtomicInteger();
+    private final AtomicInteger waitingLeases = new AtomicInteger();
+    private volatile boolean closed;
+
+    public DriverPool(String browserName, int maxSize, Supplier<WebDriver> driverFactory) {
+        this(browserName, maxSize, driverFactory, WebDriver::quit);
+    }
+
+    public DriverPool(String browserName, int maxSize, Supplier<WebDriver> driverFactory,
+                      Consumer<WebDriver> driverDisposer) {
+        if (maxSize < 1) {
+            throw new IllegalArgumentException("Driver pool size must be at least 1, was: " + maxSize);
+        }
+        this.browserName = browserName;
+        this.maxSize = maxSize;
+        this.driverFactory = driverFactory;
+        this.driverDisposer = driverDisposer;
+        this.leasePermits = new Semaphore(maxSize, true);
+    }
+
+    public WebDriver lease() {
+        if (closed) {
+            throw new IllegalStateException("Driver pool for " + browserName + " is already shut down");
+        }
+        try {
+            leasePermits.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for a " + browserName + " session", e);
+        }
+
+        WebDriver pooled = idleDrivers.pollFirst();
+        if (pooled == null) {
+            pooled = awaitBackgroundLaunch();
+        }
+        if (pooled != null) {
+            logger.debug("Leased warm {} session from pool ({} idle)", browserName, idleDrivers.size());
+            return pooled;
+        }
+
+        try {
+            WebDriver created = launch();
+            logger.debug("Leased newly launched {} session ({} total)", browserName, allDrivers.size());
+            return created;
+        } catch (RuntimeException e) {
+            leasePermits.release();
+            throw e;
+        }
+    }
+
+    public void release(WebDriver webDriver) {
+        try {
+            if (!closed && resetState(webDriver)) {
+                idleDrivers.offerFirst(webDriver);
+                logger.debug("Returned {} session to pool ({} idle)", browserName, idleDrivers.size());
+            } else {
+                discard(webDriver);
+            }
+        } finally {
+            leasePermits.release();
+        }
+    }
+
+    public synchronized void warmUp(int count) {
+        int target = Math.min(count, maxSize);
+        while (!closed && allDrivers.size() + pendingLaunches.get() < target) {
+            idleDrivers.offerLast(launch());
+        }
+        logger.info("Driver pool for {} warmed up with {} session(s), {} still launching",
+            browserName, allDrivers.size(), pendingLaunches.get());
+    }
+
+    public synchronized void warmUpInBackground(int count) {
+        int target = Math.min(count, maxSize);
+        int launches = 0;
+        while (!closed && allDrivers.size() + pendingLaunches.get() < target) {
+            pendingLaunches.incrementAndGet();
+            Thread launcher = new Thread(this::launchInBackground, "driver-prewarm-" + browserName + "-" + launches++);
+            launcher.setDaemon(true);
+            launcher.start();
+        }
+        if (launches > 0) {
+            logger.info("Launching {} {} session(s) in the background", launches, browserName);
+        }
+    }
+
+    public void shutdown() {
+        closed = true;
+        for (WebDriver webDriver : new ArrayList<>(allDrivers)) {
+            discard(webDriver);
+        }
+        idleDrivers.clear();
+        logger.info("Driver pool for {} shut down", browserName);
+    }
+
+    public int getIdleCount() {
+        return idleDrivers.size();
+    }
+
+    public int getMaxSize() {
+        return maxSize;
+    }
+
+    private void launchInBackground() {
+        long start = System.nanoTime();
+        try {
+            WebDriver webDriver = launch();
+            if (closed) {
+                discard(webDriver);
+            } else {
+                idleDrivers.offerLast(webDriver);
+                logger.info("Background {} session ready in {} ms", browserName, (System.nanoTime() - start) / 1_000_000);
+            }
+        } catch (RuntimeException e) {
+            logger.warn("Background launch of {} session failed: {}", browserName, e.getMessage());
+        } finally {
+            pendingLaunches.decrementAndGet();
+        }
+    }
+
+    private WebDriver awaitBackgroundLaunch() {
+        int position = waitingLeases.incrementAndGet();
+        try {
+            while (pendingLaunches.get() >= position) {
+                WebDriver webDriver = idleDrivers.pollFirst(100, TimeUnit.MILLISECONDS);
+                if (webDriver != null) {
+                    logger.debug("Handed background-launched {} session to lease", browserName);
+                    return webDriver;
+                }
+            }
+            return idleDrivers.pollFirst();
+        } catch (InterruptedException e) {
+            leasePermits.release();
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for a background " + browserName + " session", e);
+        } finally {
+            waitingLeases.decrementAndGet();
+        }
+    }
+
+    private WebDriver launch() {
+        WebDriver webDriver = driverFactory.get();
+        allDrivers.add(webDriver);
+        return webDriver;
+    }
+
+    private void discard(WebDriver webDriver) {
+        allDrivers.remove(webDriver);
+        try {
+            driverDisposer.accept(webDriver);
+        } catch (WebDriverException e) {
+            logger.warn("Failed to quit discarded {} session: {}", browserName, e.getMessage());
+        }
+    }
+
+    private boolean resetState(WebDriver webDriver) {
+        SessionState.clear(webDriver);
+        try {
+            Set<String> origins = new LinkedHashSet<>();
+            addOrigin(origins, TestConfig.getBaseUrl());
+            List<String> handles = new ArrayList<>(webDriver.getWindowHandles());
+            String keptHandle = handles.get(0);
+            for (String handle : handles) {
+                webDriver.switchTo().window(handle);
+                addOrigin(origins, webDriver.getCurrentUrl());
+                if (!handle.equals(keptHandle)) {
+                    webDriver.close();
+                }
+            }
+            webDriver.switchTo().window(keptHandle);
+
+            if (webDriver instanceof HasCdp) {
+                HasCdp cdp = (HasCdp) webDriver;
+                cdp.executeCdpCommand("Network.clearBrowserCookies", Map.of());
+                for (String origin : origins) {
+                    cdp.executeCdpCommand("Storage.clearDataForOrigin", Map.of("origin", origin, "storageTypes", "all"));
+                }
+            } else {
+                if (origins.size() > 1) {
+                    logger.debug("{} session visited {}, recycling it instead of resetting", browserName, origins);
+                    return false;
+                }
+                ((JavascriptExecutor) webDriver).executeScript(
+                    "try { window.localStorage.clear(); window.sessionStorage.clear(); } catch (e) {}");
+                webDriver.manage().deleteAllCookies();
+            }
+            webDriver.get("about:blank");
+            return true;
+        } catch (WebDriverException | IndexOutOfBoundsException e) {
+            logger.warn("Failed to reset {} session, discarding it: {}", browserName, e.getMessage());
+            return false;
+        }
+    }
+
+    private static void addOrigin(Set<String> origins, String url) {
+        try {
+            URI uri = URI.create(url);
+            if (("http".equals(uri.getScheme()) || "https".equals(uri.getScheme())) && uri.getHost() != null) {
+                origins.add(uri.getScheme() + "://" + uri.getHost() + (uri.getPort() < 0 ? "" : ":" + uri.getPort()));
+            }
+        } catch (IllegalArgumentException e) {
+            logger.debug("Ignoring unparseable session URL {}", url);
+        }
+    }
+}
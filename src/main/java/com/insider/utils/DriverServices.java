@@ -0,0 +1,221 @@
+package com.insider.utils;
+
+import org.openqa.selenium.Capabilities;
+import org.openqa.selenium.chrome.ChromeDriverService;
+import org.openqa.selenium.edge.EdgeDriverService;
+import org.openqa.selenium.firefox.GeckoDriverService;
+import org.openqa.selenium.remote.service.DriverFinder;
+import org.openqa.selenium.remote.service.DriverService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.HttpURLConnection;
+import java.net.URISyntaxException;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+public final class DriverServices {
+
+    private static final Logger logger = LoggerFactory.getLogger(DriverServices.class);
+    private static final int HEALTH_CHECK_TIMEOUT_MILLIS = 2000;
+
+    private static final Map<String, DriverService> services = new ConcurrentHashMap<>();
+
+    private DriverServices() {
+    }
+
+    public static ChromeDriverService chrome(Capabilities options) {
+        return (ChromeDriverService) obtain("chrome", options);
+    }
+
+    public static GeckoDriverService firefox(Capabilities options) {
+        return (GeckoDriverService) obtain("firefox", options);
+    }
+
+    public static EdgeDriverService edge(Capabilities options) {
+        return (EdgeDriverService) obtain("edge", options);
+    }
+
+    public static void stopAll() {
+        for (String browserName : services.keySet()) {
+            DriverService service = services.remove(browserName);
+            if (service != null) {
+                shutdown(browserName, service);
+            }
+        }
+    }
+
+    private static synchronized DriverService obtain(String browserName, Capabilities options) {
+        DriverService service = services.get(browserName);
+        if (service != null && isHealthy(service)) {
+            return service;
+        }
+        if (service != null) {
+            logger.warn("Shared {} driver service at {} is not responding, restarting it", browserName, service.getUrl());
+            shutdown(browserName, service);
+        }
+
+        long start = System.nanoTime();
+        DriverService started = create(browserName, options);
+        try {
+            started.start();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to start shared " + browserName + " driver service", e);
+        }
+        services.put(browserName, started);
+        logger.info("Started shared {} driver service at {} in {} ms", browserName, started.getUrl(),
+            (System.nanoTime() - start) / 1_000_000);
+        return started;
+    }
+
+    private static DriverService create(String browserName, Capabilities options) {
+        DriverService service;
+        switch (browserName) {
+            case "chrome":
+                File chromeDriver = new File(System.getProperty("user.dir"), "web_driver/chromedriver");
+                ChromeDriverService.Builder chromeBuilder = new SharedChromeDriverService.Builder();
+                if (chromeDriver.canExecute()) {
+                    chromeBuilder.usingDriverExecutable(chromeDriver);
+                }
+                service = chromeBuilder.usingAnyFreePort().build();
+                break;
+            case "firefox":
+                service = new SharedGeckoDriverService.Builder().usingAnyFreePort().build();
+                break;
+            case "edge":
+                service = new SharedEdgeDriverService.Builder().usingAnyFreePort().build();
+                break;
+            default:
+                throw new IllegalArgumentException("Browser not supported: " + browserName);
+        }
+        if (service.getExecutable() == null) {
+            service.setExecutable(DriverFinder.getPath(service, options).getDriverPath());
+        }
+        return service;
+    }
+
+    private static boolean isHealthy(DriverService service) {
+        if (!service.isRunning()) {
+            return false;
+        }
+        try {
+            HttpURLConnection connection = (HttpURLConnection) service.getUrl().toURI().resolve("/status").toURL().openConnection();
+            connection.setConnectTimeout(HEALTH_CHECK_TIMEOUT_MILLIS);
+            connection.setReadTimeout(HEALTH_CHECK_TIMEOUT_MILLIS);
+            try {
+                return connection.getResponseCode() == HttpURLConnection.HTTP_OK;
+            } finally {
+                connection.disconnect();
+            }
+        } catch (IOException | URISyntaxException e) {
+            logger.debug("Health check for driver service at {} failed: {}", service.getUrl(), e.getMessage());
+            return false;
+        }
+    }
+
+    private static void shutdown(String browserName, DriverService service) {
+        try {
+            ((SharedService) service).shutdown();
+            logger.info("Stopped shared {} driver service", browserName);
+        } catch (RuntimeException e) {
+            logger.warn("Failed to stop shared {} driver service: {}", browserName, e.getMessage());
+        }
+    }
+
+    private interface SharedService {
+        void shutdown();
+    }
+
+    // Drivers call DriverService.stop() on quit; shared services ignore that and only stop on shutdown().
+    private static final class SharedChromeDriverService extends ChromeDriverService implements SharedService {
+
+        private SharedChromeDriverService(File executable, int port, Duration timeout, List<String> args,
+                                          Map<String, String> environment) throws IOException {
+            super(executable, port, timeout, args, environment);
+        }
+
+        @Override
+        public void stop() {
+        }
+
+        @Override
+        public void shutdown() {
+            super.stop();
+        }
+
+        private static final class Builder extends ChromeDriverService.Builder {
+            @Override
+            protected ChromeDriverService createDriverService(File exe, int port, Duration timeout, List<String> args,
+                                                              Map<String, String> environment) {
+                try {
+                    return new SharedChromeDriverService(exe, port, timeout, args, environment);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            }
+        }
+    }
+
+    private static final class SharedGeckoDriverService extends GeckoDriverService implements SharedService {
+
+        private SharedGeckoDriverService(File executable, int port, Duration timeout, List<String> args,
+                                         Map<String, String> environment) throws IOException {
+            super(executable, port, timeout, args, environment);
+        }
+
+        @Override
+        public void stop() {
+        }
+
+        @Override
+        public void shutdown() {
+            super.stop();
+        }
+
+        private static final class Builder extends GeckoDriverService.Builder {
+            @Override
+            protected GeckoDriverService createDriverService(File exe, int port, Duration timeout, List<String> args,
+                                                             Map<String, String> environment) {
+                try {
+                    return new SharedGeckoDriverService(exe, port, timeout, args, environment);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            }
+        }
+    }
+
+    private static final class SharedEdgeDriverService extends EdgeDriverService implements SharedService {
+
+        private SharedEdgeDriverService(File executable, int port, Duration timeout, List<String> args,
+                                        Map<String, String> environment) throws IOException {
+            super(executable, port, timeout, args, environment);
+        }
+
+        @Override
+        public void stop() {
+        }
+
+        @Override
+        public void shutdown() {
+            super.stop();
+        }
+
+        private static final class Builder extends EdgeDriverService.Builder {
+            @Override
+            protected EdgeDriverService createDriverService(File exe, int port, Duration timeout, List<String> args,
+                                                            Map<String, String> environment) {
+                try {
+                    return new SharedEdgeDriverService(exe, port, timeout, args, environment);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            }
+        }
+    }
+}
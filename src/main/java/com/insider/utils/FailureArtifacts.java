@@ -0,0 +1,214 @@
+package com.insider.utils;
+
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.OutputType;
+import org.openqa.selenium.TakesScreenshot;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.chromium.HasCdp;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.PrintWriter;
+import java.io.StringWriter;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.zip.GZIPOutputStream;
+
+public final class FailureArtifacts {
+
+    private static final Logger logger = LoggerFactory.getLogger(FailureArtifacts.class);
+
+    private static final String RUN_PREFIX = "run-";
+    private static final String DOM_SCRIPT = "return document.documentElement ? document.documentElement.outerHTML : '';";
+    private static final Path RUN_DIR = Path.of(TestConfig.getFailureArtifactsDir())
+        .resolve(RUN_PREFIX + LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss-SSS")));
+
+    private static final AtomicInteger sequence = new AtomicInteger();
+    private static final AtomicBoolean pruned = new AtomicBoolean();
+    private static final ThreadLocal<String> currentTest = new ThreadLocal<>();
+    private static final ThreadLocal<Integer> capturedForTest = ThreadLocal.withInitial(() -> 0);
+    private static final ThreadPoolExecutor writer = createWriter();
+
+    private record Capture(String name, String url, String title, String screenshotBase64, String dom,
+                           List<String> commands, Throwable failure) {
+    }
+
+    private FailureArtifacts() {
+    }
+
+    public static void startTest(String testName) {
+        currentTest.set(testName);
+        capturedForTest.set(0);
+    }
+
+    public static void finishTest() {
+        currentTest.remove();
+        capturedForTest.remove();
+    }
+
+    public static boolean hasCapturedForCurrentTest() {
+        return capturedForTest.get() > 0;
+    }
+
+    public static void capture(WebDriver webDriver, String label, Throwable failure) {
+        if (!TestConfig.isFailureArtifactsEnabled() || webDriver == null
+            || capturedForTest.get() >= TestConfig.getFailureArtifactsMaxPerTest()) {
+            return;
+        }
+        capturedForTest.set(capturedForTest.get() + 1);
+        long start = System.nanoTime();
+
+        String testName = currentTest.get() == null ? "no-test" : currentTest.get();
+        String name = String.format("%03d-%s-%s", sequence.incrementAndGet(), sanitize(testName), sanitize(label));
+        String url = null;
+        String title = null;
+        String dom = null;
+        String screenshot = null;
+        try {
+            url = webDriver.getCurrentUrl();
+            title = webDriver.getTitle();
+            dom = (String) ((JavascriptExecutor) webDriver).executeScript(DOM_SCRIPT);
+            screenshot = captureScreenshot(webDriver);
+        } catch (WebDriverException | ClassCastException e) {
+            logger.debug("Partial failure artifact capture for {}: {}", name, e.getMessage());
+        }
+        Capture capture = new Capture(name, url, title, screenshot, dom, CommandMetrics.getRecentCommands(), failure);
+        logger.debug("Captured failure artifacts for {} in {} ms", name, (System.nanoTime() - start) / 1_000_000);
+
+        try {
+            writer.execute(() -> write(capture));
+        } catch (RuntimeException e) {
+            logger.warn("Failure artifact queue is full, dropping artifacts for {}", name);
+        }
+    }
+
+    public static void awaitPendingWrites(long timeoutMillis) {
+        long deadline = System.currentTimeMillis() + timeoutMillis;
+        while ((writer.getActiveCount() > 0 || !writer.getQueue().isEmpty()) && System.currentTimeMillis() < deadline) {
+            try {
+                Thread.sleep(20);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+
+    private static String captureScreenshot(WebDriver webDriver) {
+        if (webDriver instanceof HasCdp) {
+            Map<String, Object> result = ((HasCdp) webDriver).executeCdpCommand("Page.captureScreenshot", Map.of("format", "png"));
+            return (String) result.get("data");
+        }
+        if (webDriver instanceof TakesScreenshot) {
+            return ((TakesScreenshot) webDriver).getScreenshotAs(OutputType.BASE64);
+        }
+        return null;
+    }
+
+    private static void write(Capture capture) {
+        long start = System.nanoTime();
+        Path dir = RUN_DIR.resolve(capture.name());
+        try {
+            if (pruned.compareAndSet(false, true)) {
+                pruneOldRuns();
+            }
+            Files.createDirectories(dir);
+
+            if (capture.screenshotBase64() != null) {
+                byte[] png = Base64.getMimeDecoder().decode(capture.screenshotBase64());
+                if (png.length <= TestConfig.getFailureArtifactsMaxScreenshotKb() * 1024) {
+                    Files.write(dir.resolve("screenshot.png"), png);
+                } else {
+                    logger.debug("Skipping {} KB screenshot for {}", png.length / 1024, capture.name());
+                }
+            }
+            if (capture.dom() != null) {
+                writeGzip(dir.resolve("dom.html.gz"), truncate(capture.dom(), TestConfig.getFailureArtifactsMaxDomKb() * 1024));
+            }
+
+            StringWriter context = new StringWriter();
+            PrintWriter out = new PrintWriter(context);
+            out.println("url: " + capture.url());
+            out.println("title: " + capture.title());
+            out.println();
+            out.println("recent WebDriver commands:");
+            capture.commands().forEach(command -> out.println("  " + command));
+            if (capture.failure() != null) {
+                out.println();
+                capture.failure().printStackTrace(out);
+            }
+            out.flush();
+            writeGzip(dir.resolve("context.txt.gz"), context.toString());
+            logger.info("Wrote failure artifacts to {} in {} ms", dir, (System.nanoTime() - start) / 1_000_000);
+        } catch (IOException | IllegalArgumentException e) {
+            logger.warn("Failed to write failure artifacts to {}: {}", dir, e.getMessage());
+        }
+    }
+
+    private static void writeGzip(Path file, String content) throws IOException {
+        try (OutputStream out = new GZIPOutputStream(Files.newOutputStream(file))) {
+            out.write(content.getBytes(StandardCharsets.UTF_8));
+        }
+    }
+
+    private static String truncate(String content, long maxChars) {
+        return content.length() <= maxChars ? content
+            : content.substring(0, (int) maxChars) + "\n<!-- truncated from " + content.length() + " chars -->";
+    }
+
+    private static void pruneOldRuns() throws IOException {
+        Path root = RUN_DIR.getParent();
+        if (!Files.isDirectory(root)) {
+            return;
+        }
+        List<Path> runs = new ArrayList<>();
+        try (var entries = Files.newDirectoryStream(root, RUN_PREFIX + "*")) {
+            entries.forEach(runs::add);
+        }
+        runs.remove(RUN_DIR);
+        runs.sort(null);
+        int keep = Math.max(0, TestConfig.getFailureArtifactsRetainedRuns() - 1);
+        for (Path run : runs.subList(0, Math.max(0, runs.size() - keep))) {
+            try (var files = Files.walk(run)) {
+                files.sorted((a, b) -> b.getNameCount() - a.getNameCount()).forEach(file -> file.toFile().delete());
+            }
+            logger.debug("Pruned old failure artifact run {}", run);
+        }
+    }
+
+    private static String sanitize(String value) {
+        String safe = value.replaceAll("[^A-Za-z0-9._-]+", "_");
+        return safe.length() > 60 ? safe.substring(0, 60) : safe;
+    }
+
+    private static ThreadPoolExecutor createWriter() {
+        AtomicInteger threadCount = new AtomicInteger();
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(
+            TestConfig.getFailureArtifactsThreads(), TestConfig.getFailureArtifactsThreads(), 30, TimeUnit.SECONDS,
+            new ArrayBlockingQueue<>(TestConfig.getFailureArtifactsQueueSize()),
+            runnable -> {
+                Thread thread = new Thread(runnable, "failure-artifacts-" + threadCount.incrementAndGet());
+                thread.setDaemon(true);
+                thread.setPriority(Thread.MIN_PRIORITY);
+                return thread;
+            },
+            new ThreadPoolExecutor.AbortPolicy());
+        executor.allowCoreThreadTimeOut(true);
+        return executor;
+    }
+}
@@ -0,0 +1,119 @@
+package com.insider.utils;
+
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.devtools.Command;
+import org.openqa.selenium.devtools.DevTools;
+import org.openqa.selenium.devtools.Event;
+import org.openqa.selenium.devtools.HasDevTools;
+import org.openqa.selenium.json.Json;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+public class NetworkBlocker {
+
+    private static final Logger logger = LoggerFactory.getLogger(NetworkBlocker.class);
+
+    private final DevTools devTools;
+    private final List<String> blockedUrlPatterns;
+    private final List<String> blockedResourceTypes;
+    private final Map<String, LongAdder> blockedByType = new ConcurrentHashMap<>();
+    private final LongAdder blockedRequests = new LongAdder();
+    private final LongAdder loadedRequests = new LongAdder();
+    private final LongAdder loadedBytes = new LongAdder();
+
+    private NetworkBlocker(DevTools devTools, List<String> blockedUrlPatterns, List<String> blockedResourceTypes) {
+        this.devTools = devTools;
+        this.blockedUrlPatterns = blockedUrlPatterns;
+        this.blockedResourceTypes = blockedResourceTypes;
+    }
+
+    public static NetworkBlocker attach(WebDriver webDriver, List<String> blockedUrlPatterns, List<String> blockedResourceTypes) {
+        if (!(webDriver instanceof HasDevTools)) {
+            throw new IllegalArgumentException("Network blocking requires a DevTools capable driver: "
+                + webDriver.getClass().getSimpleName());
+        }
+        DevTools devTools = ((HasDevTools) webDriver).getDevTools();
+        devTools.createSessionIfThereIsNotOne();
+        NetworkBlocker blocker = new NetworkBlocker(devTools, blockedUrlPatterns, blockedResourceTypes);
+        blocker.enable();
+        return blocker;
+    }
+
+    private void enable() {
+        devTools.addListener(cdpEvent("Network.loadingFinished"), params -> {
+            loadedRequests.increment();
+            Object encodedLength = params.get("encodedDataLength");
+            if (encodedLength instanceof Number) {
+                loadedBytes.add(((Number) encodedLength).longValue());
+            }
+        });
+        devTools.addListener(cdpEvent("Network.loadingFailed"), params -> {
+            if (params.get("blockedReason") != null) {
+                recordBlocked(String.valueOf(params.get("type")));
+            }
+        });
+        devTools.send(new Command<>("Network.enable", Map.of()));
+
+        if (!blockedUrlPatterns.isEmpty()) {
+            devTools.send(new Command<>("Network.setBlockedURLs", Map.of("urls", blockedUrlPatterns)));
+        }
+
+        if (!blockedResourceTypes.isEmpty()) {
+            List<Map<String, Object>> patterns = new ArrayList<>();
+            for (String resourceType : blockedResourceTypes) {
+                patterns.add(Map.of("urlPattern", "*", "resourceType", resourceType, "requestStage", "Request"));
+            }
+            devTools.addListener(cdpEvent("Fetch.requestPaused"), params -> {
+                recordBlocked(String.valueOf(params.get("resourceType")));
+                devTools.send(new Command<>("Fetch.failRequest",
+                    Map.of("requestId", params.get("requestId"), "errorReason", "BlockedByClient")));
+            });
+            devTools.send(new Command<>("Fetch.enable", Map.of("patterns", patterns)));
+        }
+
+        logger.info("Network blocking enabled - URL patterns: {} | resource types: {}",
+            blockedUrlPatterns.size(), blockedResourceTypes);
+    }
+
+    public long getBlockedRequestCount() {
+        return blockedRequests.sum();
+    }
+
+    public long getLoadedRequestCount() {
+        return loadedRequests.sum();
+    }
+
+    public long getLoadedBytes() {
+        return loadedBytes.sum();
+    }
+
+    public Map<String, Long> getBlockedRequestsByType() {
+        Map<String, Long> counts = new ConcurrentHashMap<>();
+        blockedByType.forEach((type, count) -> counts.put(type, count.sum()));
+        return counts;
+    }
+
+    public void logAndResetStats() {
+        logger.info("Network stats - blocked requests: {} {} | loaded requests: {} | loaded bytes: {}",
+            getBlockedRequestCount(), getBlockedRequestsByType(), getLoadedRequestCount(), getLoadedBytes());
+        blockedRequests.reset();
+        loadedRequests.reset();
+        loadedBytes.reset();
+        blockedByType.clear();
+    }
+
+    private void recordBlocked(String resourceType) {
+        blockedRequests.increment();
+        blockedByType.computeIfAbsent(resourceType, type -> new LongAdder()).increment();
+    }
+
+    private static Event<Map<String, Object>> cdpEvent(String method) {
+        return new Event<>(method, input -> input.read(Json.MAP_TYPE));
+    }
+}
@@ -0,0 +1,435 @@
+package com.insider.utils;
+
+import org.openqa.selenium.Capabilities;
+import org.openqa.selenium.HasCapabilities;
+import org.openqa.selenium.WebDriver;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+
+public final class ResourceGovernor {
+
+    private static final Logger logger = LoggerFactory.getLogger(ResourceGovernor.class);
+
+    private static final String SESSION_MARKER = "--insider-qa-owner=";
+    private static final Set<String> BROWSER_PROCESSES = Set.of(
+        "chrome", "chromium", "chrome_crashpad_handler", "msedge", "firefox", "firefox-bin");
+    private static final Set<String> DRIVER_PROCESSES = Set.of("chromedriver", "msedgedriver", "geckodriver");
+    private static final long ADMISSION_POLL_MILLIS = 500;
+    private static final long QUIT_GRACE_MILLIS = 2000;
+    private static final String DRIVER_PID_FILE_PREFIX = "drivers-";
+    private static final String DRIVER_PID_FILE_SUFFIX = ".pids";
+
+    private static final Map<WebDriver, SessionUsage> sessions = new ConcurrentHashMap<>();
+    private static final AtomicInteger admittedSessions = new AtomicInteger();
+    private static final Set<Long> recordedDriverPids = ConcurrentHashMap.newKeySet();
+    private static volatile long largestSessionKb;
+    private static volatile ScheduledExecutorService sampler;
+
+    private ResourceGovernor() {
+    }
+
+    public static final class SessionUsage {
+
+        private final ProcessHandle root;
+        private volatile long currentRssKb;
+        private volatile long peakRssKb;
+        private volatile long testPeakRssKb;
+        private volatile long cpuMillis;
+
+        private SessionUsage(ProcessHandle root) {
+            this.root = root;
+        }
+
+        public long getPid() {
+            return root.pid();
+        }
+
+        public long getCurrentRssKb() {
+            return currentRssKb;
+        }
+
+        public long getPeakRssKb() {
+            return peakRssKb;
+        }
+
+        public long getTestPeakRssKb() {
+            return testPeakRssKb;
+        }
+
+        public long getCpuMillis() {
+            return cpuMillis;
+        }
+
+        private synchronized void sample() {
+            long rssKb = 0;
+            long cpu = 0;
+            for (ProcessHandle process : tree(root).toList()) {
+                rssKb += readRssKb(process.pid());
+                cpu += process.info().totalCpuDuration().map(Duration::toMillis).orElse(0L);
+            }
+            currentRssKb = rssKb;
+            cpuMillis = cpu;
+            peakRssKb = Math.max(peakRssKb, rssKb);
+            testPeakRssKb = Math.max(testPeakRssKb, rssKb);
+            largestSessionKb = Math.max(largestSessionKb, rssKb);
+        }
+
+        private synchronized void resetTestPeak() {
+            testPeakRssKb = currentRssKb;
+        }
+    }
+
+    public static String markerArgument() {
+        return SESSION_MARKER + ProcessHandle.current().pid();
+    }
+
+    public static void awaitCapacity(String browserName) {
+        if (!TestConfig.isResourceGovernorEnabled()) {
+            return;
+        }
+        long deadline = System.currentTimeMillis() + TestConfig.getResourceAdmissionTimeoutSeconds() * 1000;
+        boolean waited = false;
+        while (true) {
+            synchronized (ResourceGovernor.class) {
+                String blocker = admissionBlocker();
+                if (blocker == null || System.currentTimeMillis() >= deadline) {
+                    if (blocker != null) {
+                        logger.warn("Admitting {} session despite resource limits after waiting: {}", browserName, blocker);
+                    } else if (waited) {
+                        logger.info("Resources freed up, admitting {} session", browserName);
+                    }
+                    admittedSessions.incrementAndGet();
+                    return;
+                }
+                if (!waited) {
+                    logger.info("Holding new {} session: {}", browserName, blocker);
+                    waited = true;
+                }
+            }
+            try {
+                Thread.sleep(ADMISSION_POLL_MILLIS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("Interrupted while waiting for browser capacity", e);
+            }
+        }
+    }
+
+    public static void cancelAdmission() {
+        if (TestConfig.isResourceGovernorEnabled()) {
+            admittedSessions.decrementAndGet();
+        }
+    }
+
+    public static void register(WebDriver webDriver) {
+        if (!TestConfig.isResourceGovernorEnabled()) {
+            return;
+        }
+        recordDriverProcesses();
+        Optional<ProcessHandle> root = findBrowserProcess(webDriver);
+        if (root.isEmpty()) {
+            logger.debug("Could not find the browser process for {}, memory will not be tracked", webDriver);
+            return;
+        }
+        SessionUsage usage = new SessionUsage(root.get());
+        usage.sample();
+        sessions.put(webDriver, usage);
+        startSampler();
+        logger.debug("Tracking browser process {} ({} MB)", root.get().pid(), usage.getCurrentRssKb() / 1024);
+    }
+
+    public static void release(WebDriver webDriver, boolean quitFailed) {
+        if (!TestConfig.isResourceGovernorEnabled()) {
+            return;
+        }
+        admittedSessions.decrementAndGet();
+        SessionUsage usage = sessions.remove(webDriver);
+        if (usage == null) {
+            return;
+        }
+        ProcessHandle root = usage.root;
+        if (root.isAlive() && !quitFailed) {
+            try {
+                root.onExit().get(QUIT_GRACE_MILLIS, TimeUnit.MILLISECONDS);
+            } catch (TimeoutException | ExecutionException e) {
+                logger.debug("Browser process {} still alive {} ms after quit", root.pid(), QUIT_GRACE_MILLIS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        if (root.isAlive()) {
+            logger.warn("Killing leaked browser process tree {} (peak {} MB)", root.pid(), usage.getPeakRssKb() / 1024);
+            killTree(root);
+        }
+    }
+
+    public static SessionUsage getUsage(WebDriver webDriver) {
+        return webDriver == null ? null : sessions.get(webDriver);
+    }
+
+    public static void startTest(WebDriver webDriver) {
+        SessionUsage usage = getUsage(webDriver);
+        if (usage != null) {
+            usage.sample();
+            usage.resetTestPeak();
+        }
+    }
+
+    public static SessionUsage finishTest(WebDriver webDriver) {
+        SessionUsage usage = getUsage(webDriver);
+        if (usage != null) {
+            usage.sample();
+        }
+        return usage;
+    }
+
+    public static void reapOrphans() {
+        if (!TestConfig.isResourceGovernorEnabled()) {
+            return;
+        }
+        long ownPid = ProcessHandle.current().pid();
+        int reaped = 0;
+        for (ProcessHandle process : ProcessHandle.allProcesses().toList()) {
+            if (process.pid() == ownPid || !BROWSER_PROCESSES.contains(processName(process))) {
+                continue;
+            }
+            Optional<Long> owner = ownerPid(process);
+            if (owner.isPresent() && owner.get() != ownPid && !isAlive(owner.get())) {
+                logger.info("Reaping {} process {} left by test JVM {}", processName(process), process.pid(), owner.get());
+                killTree(process);
+                reaped++;
+            }
+        }
+        reaped += reapRecordedDrivers(ownPid);
+        if (reaped > 0) {
+            logger.warn("Reaped {} orphaned browser/driver process(es) from earlier runs", reaped);
+        }
+    }
+
+    private static int reapRecordedDrivers(long ownPid) {
+        Path runDir = Path.of(TestConfig.getResourceRunDir());
+        if (!Files.isDirectory(runDir)) {
+            return 0;
+        }
+        int reaped = 0;
+        try (var files = Files.newDirectoryStream(runDir, DRIVER_PID_FILE_PREFIX + "*" + DRIVER_PID_FILE_SUFFIX)) {
+            for (Path file : files) {
+                String name = file.getFileName().toString();
+                long owner = Long.parseLong(name.substring(DRIVER_PID_FILE_PREFIX.length(), name.length() - DRIVER_PID_FILE_SUFFIX.length()));
+                if (owner == ownPid || isAlive(owner)) {
+                    continue;
+                }
+                for (String line : Files.readAllLines(file)) {
+                    String[] fields = line.trim().split("\\s+");
+                    if (fields.length != 2) {
+                        continue;
+                    }
+                    long pid = Long.parseLong(fields[0]);
+                    long startMillis = Long.parseLong(fields[1]);
+                    Optional<ProcessHandle> process = ProcessHandle.of(pid)
+                        .filter(ProcessHandle::isAlive)
+                        .filter(handle -> DRIVER_PROCESSES.contains(processName(handle)))
+                        .filter(handle -> handle.info().startInstant().map(Instant::toEpochMilli).orElse(0L) == startMillis);
+                    if (process.isPresent()) {
+                        logger.info("Reaping {} process {} left by test JVM {}", processName(process.get()), pid, owner);
+                        killTree(process.get());
+                        reaped++;
+                    }
+                }
+                Files.deleteIfExists(file);
+            }
+        } catch (IOException | NumberFormatException e) {
+            logger.warn("Failed to reap recorded driver processes in {}: {}", runDir, e.getMessage());
+        }
+        return reaped;
+    }
+
+    private static void recordDriverProcesses() {
+        List<String> lines = ProcessHandle.current().children()
+            .filter(process -> DRIVER_PROCESSES.contains(processName(process)))
+            .filter(process -> recordedDriverPids.add(process.pid()))
+            .map(process -> process.pid() + " " + process.info().startInstant().map(Instant::toEpochMilli).orElse(0L))
+            .toList();
+        if (lines.isEmpty()) {
+            return;
+        }
+        Path file = driverPidFile(ProcessHandle.current().pid());
+        try {
+            Files.createDirectories(file.getParent());
+            Files.write(file, lines, StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+        } catch (IOException e) {
+            logger.warn("Failed to record driver processes in {}: {}", file, e.getMessage());
+        }
+    }
+
+    private static Path driverPidFile(long ownerPid) {
+        return Path.of(TestConfig.getResourceRunDir()).resolve(DRIVER_PID_FILE_PREFIX + ownerPid + DRIVER_PID_FILE_SUFFIX);
+    }
+
+    private static boolean isAlive(long pid) {
+        return ProcessHandle.of(pid).map(ProcessHandle::isAlive).orElse(false);
+    }
+
+    public static void reapOwnedProcesses() {
+        if (!TestConfig.isResourceGovernorEnabled()) {
+            return;
+        }
+        ProcessHandle.current().descendants()
+            .filter(process -> {
+                String name = processName(process);
+                return BROWSER_PROCESSES.contains(name) || DRIVER_PROCESSES.contains(name);
+            })
+            .filter(ProcessHandle::isAlive)
+            .forEach(process -> {
+                logger.info("Killing leftover {} process {}", processName(process), process.pid());
+                process.destroyForcibly();
+            });
+        recordedDriverPids.clear();
+        try {
+            Files.deleteIfExists(driverPidFile(ProcessHandle.current().pid()));
+        } catch (IOException e) {
+            logger.debug("Failed to remove driver process record: {}", e.getMessage());
+        }
+    }
+
+    private static String admissionBlocker() {
+        int active = admittedSessions.get();
+        if (active == 0) {
+            return null;
+        }
+        int maxSessions = TestConfig.getResourceMaxSessions();
+        if (maxSessions > 0 && active >= maxSessions) {
+            return active + " of " + maxSessions + " sessions running";
+        }
+        long availableKb = readMemInfoKb("MemAvailable");
+        if (availableKb < 0) {
+            return null;
+        }
+        long neededKb = Math.max(largestSessionKb, TestConfig.getResourceSessionEstimateMb() * 1024)
+            + TestConfig.getResourceMemoryReserveMb() * 1024;
+        if (availableKb < neededKb) {
+            return String.format("%d MB available, %d MB needed per session plus reserve", availableKb / 1024, neededKb / 1024);
+        }
+        return null;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Optional<ProcessHandle> findBrowserProcess(WebDriver webDriver) {
+        if (!(webDriver instanceof HasCapabilities)) {
+            return Optional.empty();
+        }
+        Capabilities capabilities = ((HasCapabilities) webDriver).getCapabilities();
+        Object firefoxPid = capabilities.getCapability("moz:processID");
+        if (firefoxPid instanceof Number) {
+            return ProcessHandle.of(((Number) firefoxPid).longValue());
+        }
+        for (String vendorKey : List.of("chrome", "msedge")) {
+            Object vendor = capabilities.getCapability(vendorKey);
+            if (vendor instanceof Map && ((Map<String, Object>) vendor).get("userDataDir") instanceof String userDataDir) {
+                String flag = "--user-data-dir=" + userDataDir;
+                return ProcessHandle.allProcesses()
+                    .filter(process -> process.info().commandLine().map(line -> line.contains(flag)).orElse(false))
+                    .filter(process -> process.parent().map(parent -> !BROWSER_PROCESSES.contains(processName(parent))).orElse(true))
+                    .findFirst();
+            }
+        }
+        return Optional.empty();
+    }
+
+    private static Optional<Long> ownerPid(ProcessHandle process) {
+        return process.info().commandLine().flatMap(line -> {
+            int index = line.indexOf(SESSION_MARKER);
+            if (index < 0) {
+                return Optional.empty();
+            }
+            int start = index + SESSION_MARKER.length();
+            int end = start;
+            while (end < line.length() && Character.isDigit(line.charAt(end))) {
+                end++;
+            }
+            return end > start ? Optional.of(Long.parseLong(line.substring(start, end))) : Optional.empty();
+        });
+    }
+
+    private static String processName(ProcessHandle process) {
+        return process.info().command()
+            .map(command -> Path.of(command).getFileName().toString().toLowerCase())
+            .map(name -> name.endsWith(".exe") ? name.substring(0, name.length() - 4) : name)
+            .orElse("");
+    }
+
+    private static Stream<ProcessHandle> tree(ProcessHandle root) {
+        return Stream.concat(Stream.of(root), root.descendants());
+    }
+
+    private static void killTree(ProcessHandle root) {
+        List<ProcessHandle> processes = tree(root).toList();
+        processes.forEach(ProcessHandle::destroyForcibly);
+    }
+
+    private static long readRssKb(long pid) {
+        Path status = Path.of("/proc", String.valueOf(pid), "status");
+        try (Stream<String> lines = Files.lines(status)) {
+            return lines.filter(line -> line.startsWith("VmRSS:"))
+                .findFirst()
+                .map(ResourceGovernor::parseKb)
+                .orElse(0L);
+        } catch (IOException | RuntimeException e) {
+            return 0;
+        }
+    }
+
+    private static long readMemInfoKb(String field) {
+        try (Stream<String> lines = Files.lines(Path.of("/proc/meminfo"))) {
+            return lines.filter(line -> line.startsWith(field + ":"))
+                .findFirst()
+                .map(ResourceGovernor::parseKb)
+                .orElse(-1L);
+        } catch (IOException | RuntimeException e) {
+            return -1;
+        }
+    }
+
+    private static long parseKb(String line) {
+        String[] parts = line.trim().split("\\s+");
+        return Long.parseLong(parts[1]);
+    }
+
+    private static synchronized void startSampler() {
+        if (sampler != null) {
+            return;
+        }
+        sampler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "resource-governor-sampler");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long interval = TestConfig.getResourceSampleMillis();
+        sampler.scheduleAtFixedRate(() -> sessions.values().forEach(usage -> {
+            try {
+                usage.sample();
+            } catch (RuntimeException e) {
+                logger.debug("Failed to sample browser process {}: {}", usage.getPid(), e.getMessage());
+            }
+        }), interval, interval, TimeUnit.MILLISECONDS);
+    }
+}
@@ -0,0 +1,148 @@
+package com.insider.utils;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+public class RoleLinkVerifier implements AutoCloseable {
+
+    private static final Logger logger = LoggerFactory.getLogger(RoleLinkVerifier.class);
+
+    private static final int MAX_REDIRECTS = 10;
+    private static final int MAX_BODY_BYTES = 64 * 1024;
+    private static final Pattern TITLE_PATTERN = Pattern.compile("<title[^>]*>(.*?)</title>", Pattern.CASE_INSENSITIVE | Pattern.DOTALL);
+
+    public record LinkCheck(String url, String finalUrl, int status, List<String> redirects, String title, String failure) {
+
+        public boolean isValid() {
+            return failure == null;
+        }
+    }
+
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+    private final HttpClient client;
+    private final URI baseUri;
+    private final Pattern targetPattern;
+    private final Duration timeout;
+
+    public RoleLinkVerifier(URI baseUri, Pattern targetPattern, Duration timeout) {
+        this.baseUri = baseUri;
+        this.targetPattern = targetPattern;
+        this.timeout = timeout;
+        this.client = HttpClient.newBuilder()
+            .executor(executor)
+            .followRedirects(HttpClient.Redirect.NEVER)
+            .connectTimeout(timeout)
+            .build();
+    }
+
+    public static RoleLinkVerifier fromConfig() {
+        return new RoleLinkVerifier(URI.create(TestConfig.url("")), Pattern.compile(TestConfig.getRoleLinkTargetPattern()),
+            Duration.ofSeconds(TestConfig.getWaitTimeoutSeconds()));
+    }
+
+    public List<LinkCheck> verify(List<String> urls) {
+        long start = System.nanoTime();
+        List<Future<LinkCheck>> pending = new ArrayList<>(urls.size());
+        for (String url : urls) {
+            pending.add(executor.submit(() -> check(url)));
+        }
+
+        List<LinkCheck> results = new ArrayList<>(urls.size());
+        for (int i = 0; i < pending.size(); i++) {
+            try {
+                results.add(pending.get(i).get());
+            } catch (ExecutionException e) {
+                results.add(new LinkCheck(urls.get(i), null, -1, List.of(), null, e.getCause().toString()));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("Interrupted while verifying role links", e);
+            }
+        }
+
+        long invalid = results.stream().filter(result -> !result.isValid()).count();
+        logger.info("Verified {} role link(s) over HTTP in {} ms, {} invalid", results.size(),
+            (System.nanoTime() - start) / 1_000_000, invalid);
+        results.stream().filter(result -> !result.isValid())
+            .forEach(result -> logger.warn("Invalid role link {}: {}", result.url(), result.failure()));
+        return results;
+    }
+
+    private LinkCheck check(String url) throws IOException, InterruptedException {
+        if (url == null || url.isBlank()) {
+            return new LinkCheck(url, null, -1, List.of(), null, "missing href");
+        }
+        URI current;
+        try {
+            current = baseUri.resolve(url.trim());
+        } catch (IllegalArgumentException e) {
+            return new LinkCheck(url, null, -1, List.of(), null, "invalid href: " + e.getMessage());
+        }
+        if (!"http".equalsIgnoreCase(current.getScheme()) && !"https".equalsIgnoreCase(current.getScheme())) {
+            return new LinkCheck(url, null, -1, List.of(), null, "invalid href: not an http(s) link");
+        }
+        List<String> redirects = new ArrayList<>();
+        for (int hop = 0; hop <= MAX_REDIRECTS; hop++) {
+            HttpRequest request = HttpRequest.newBuilder(current)
+                .timeout(timeout)
+                .header("Accept", "text/html")
+                .GET()
+                .build();
+            HttpResponse<InputStream> response = client.send(request, HttpResponse.BodyHandlers.ofInputStream());
+            int status = response.statusCode();
+            if (status >= 300 && status < 400) {
+                response.body().close();
+                String location = response.headers().firstValue("Location").orElse(null);
+                if (location == null) {
+                    return new LinkCheck(url, current.toString(), status, redirects, null, "redirect without Location header");
+                }
+                current = current.resolve(location);
+                redirects.add(current.toString());
+                continue;
+            }
+
+            String title = readTitle(response.body());
+            String finalUrl = current.toString();
+            String failure = null;
+            if (status != 200) {
+                failure = "unexpected status " + status;
+            } else if (!targetPattern.matcher(finalUrl).matches()) {
+                failure = "resolved to " + finalUrl + " which does not match " + targetPattern.pattern();
+            } else if (title == null || title.isBlank()) {
+                failure = "target page has no title";
+            }
+            return new LinkCheck(url, finalUrl, status, redirects, title, failure);
+        }
+        return new LinkCheck(url, current.toString(), -1, redirects, null, "more than " + MAX_REDIRECTS + " redirects");
+    }
+
+    private static String readTitle(InputStream body) throws IOException {
+        try (body) {
+            String head = new String(body.readNBytes(MAX_BODY_BYTES), StandardCharsets.UTF_8);
+            Matcher matcher = TITLE_PATTERN.matcher(head);
+            return matcher.find() ? matcher.group(1).replaceAll("\\s+", " ").trim() : null;
+        }
+    }
+
+    @Override
+    public void close() {
+        client.close();
+        executor.shutdownNow();
+    }
+}
@@ -0,0 +1,30 @@
+package com.insider.utils;
+
+import org.openqa.selenium.WebDriver;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+public final class SessionState {
+
+    public static final String COOKIE_CONSENT_OVERLAY = "cookie-consent";
+
+    private static final Map<WebDriver, Set<String>> flags = new ConcurrentHashMap<>();
+
+    private SessionState() {
+    }
+
+    public static boolean isSet(WebDriver webDriver, String flag) {
+        Set<String> sessionFlags = flags.get(webDriver);
+        return sessionFlags != null && sessionFlags.contains(flag);
+    }
+
+    public static void set(WebDriver webDriver, String flag) {
+        flags.computeIfAbsent(webDriver, key -> ConcurrentHashMap.newKeySet()).add(flag);
+    }
+
+    public static void clear(WebDriver webDriver) {
+        flags.remove(webDriver);
+    }
+}
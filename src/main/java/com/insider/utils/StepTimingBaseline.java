@@ -0,0 +1,112 @@
+package com.insider.utils;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+public class StepTimingBaseline {
+
+    public record StepKey(String test, String step) {
+
+        private static final Comparator<StepKey> ORDER = Comparator.comparing(StepKey::test).thenComparing(StepKey::step);
+
+        @Override
+        public String toString() {
+            return test + " > " + step;
+        }
+    }
+
+    public record StepStats(StepKey key, int samples, long medianMillis, long p95Millis) {
+    }
+
+    public record StepRegression(StepKey key, StepStats baseline, long currentMedianMillis) {
+
+        public double getSlowdown() {
+            return baseline.medianMillis() == 0 ? Double.POSITIVE_INFINITY
+                : (double) currentMedianMillis / baseline.medianMillis() - 1.0;
+        }
+    }
+
+    private final Map<StepKey, StepStats> stats;
+    private final Set<Integer> usedRuns;
+
+    private StepTimingBaseline(Map<StepKey, StepStats> stats, Set<Integer> usedRuns) {
+        this.stats = stats;
+        this.usedRuns = usedRuns;
+    }
+
+    public static StepTimingBaseline fromRuns(List<List<StepTimings.StepTiming>> runs, int historyPerStep) {
+        List<StepTimings.StepTiming> samples = new ArrayList<>();
+        Map<StepKey, Integer> runsPerKey = new HashMap<>();
+        Set<Integer> usedRuns = new HashSet<>();
+        for (int i = runs.size() - 1; i >= 0; i--) {
+            Set<StepKey> keysInRun = new HashSet<>();
+            for (StepTimings.StepTiming timing : runs.get(i)) {
+                StepKey key = new StepKey(timing.test(), timing.step());
+                if (runsPerKey.getOrDefault(key, 0) < historyPerStep) {
+                    samples.add(timing);
+                    keysInRun.add(key);
+                    usedRuns.add(i);
+                }
+            }
+            keysInRun.forEach(key -> runsPerKey.merge(key, 1, Integer::sum));
+        }
+        return new StepTimingBaseline(summarize(samples), usedRuns);
+    }
+
+    public Map<StepKey, StepStats> getStats() {
+        return Collections.unmodifiableMap(stats);
+    }
+
+    public boolean isEmpty() {
+        return stats.isEmpty();
+    }
+
+    public boolean usesRun(int runIndex) {
+        return usedRuns.contains(runIndex);
+    }
+
+    public List<StepRegression> findRegressions(List<StepTimings.StepTiming> currentRun, double threshold, long minDeltaMillis) {
+        List<StepRegression> regressions = new ArrayList<>();
+        for (StepStats current : summarize(currentRun).values()) {
+            StepStats baseline = stats.get(current.key());
+            if (baseline == null) {
+                continue;
+            }
+            long delta = current.medianMillis() - baseline.medianMillis();
+            if (delta >= minDeltaMillis && current.medianMillis() > baseline.medianMillis() * (1.0 + threshold)) {
+                regressions.add(new StepRegression(current.key(), baseline, current.medianMillis()));
+            }
+        }
+        regressions.sort((a, b) -> Double.compare(b.getSlowdown(), a.getSlowdown()));
+        return regressions;
+    }
+
+    static Map<StepKey, StepStats> summarize(List<StepTimings.StepTiming> samples) {
+        Map<StepKey, List<Long>> byStep = new TreeMap<>(StepKey.ORDER);
+        for (StepTimings.StepTiming sample : samples) {
+            byStep.computeIfAbsent(new StepKey(sample.test(), sample.step()), key -> new ArrayList<>()).add(sample.millis());
+        }
+        Map<StepKey, StepStats> summary = new TreeMap<>(StepKey.ORDER);
+        byStep.forEach((key, durations) -> {
+            Collections.sort(durations);
+            summary.put(key, new StepStats(key, durations.size(),
+                percentile(durations, 0.5), percentile(durations, 0.95)));
+        });
+        return summary;
+    }
+
+    static long percentile(List<Long> sortedDurations, double percentile) {
+        if (sortedDurations.isEmpty()) {
+            return 0;
+        }
+        int index = (int) Math.ceil(percentile * sortedDurations.size()) - 1;
+        return sortedDurations.get(Math.max(0, Math.min(index, sortedDurations.size() - 1)));
+    }
+}
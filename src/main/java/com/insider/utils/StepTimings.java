@@ -0,0 +1,101 @@
+package com.insider.utils;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+public final class StepTimings {
+
+    public record StepTiming(String test, String step, long millis) {
+    }
+
+    public static final String RUN_FILE_PREFIX = "run-";
+    public static final String RUN_FILE_SUFFIX = ".csv";
+
+    private static final DateTimeFormatter RUN_ID_FORMAT = DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss-SSS");
+    private static final Queue<StepTiming> timings = new ConcurrentLinkedQueue<>();
+    private static final ThreadLocal<String> currentTest = new ThreadLocal<>();
+
+    private StepTimings() {
+    }
+
+    public static void setCurrentTest(String testName) {
+        currentTest.set(testName);
+    }
+
+    public static void clearCurrentTest() {
+        currentTest.remove();
+    }
+
+    public static void record(String step, long millis) {
+        if (!TestConfig.isStepTimingEnabled()) {
+            return;
+        }
+        String testName = currentTest.get();
+        timings.add(new StepTiming(testName == null ? "-" : testName, step, millis));
+    }
+
+    public static List<StepTiming> drain() {
+        List<StepTiming> drained = new ArrayList<>();
+        StepTiming timing;
+        while ((timing = timings.poll()) != null) {
+            drained.add(timing);
+        }
+        return drained;
+    }
+
+    public static Path writeRun(Path directory, List<StepTiming> runTimings) {
+        Path file = directory.resolve(RUN_FILE_PREFIX + LocalDateTime.now().format(RUN_ID_FORMAT) + RUN_FILE_SUFFIX);
+        List<String> lines = new ArrayList<>(runTimings.size());
+        for (StepTiming timing : runTimings) {
+            lines.add(timing.test() + "," + timing.step() + "," + timing.millis());
+        }
+        try {
+            Files.createDirectories(directory);
+            Files.write(file, lines, StandardCharsets.UTF_8);
+            return file;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to write step timings to " + file, e);
+        }
+    }
+
+    public static List<StepTiming> readRun(Path file) {
+        List<StepTiming> runTimings = new ArrayList<>();
+        try {
+            for (String line : Files.readAllLines(file, StandardCharsets.UTF_8)) {
+                String[] fields = line.split(",");
+                if (fields.length == 3) {
+                    runTimings.add(new StepTiming(fields[0], fields[1], Long.parseLong(fields[2].trim())));
+                }
+            }
+            return runTimings;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to read step timings from " + file, e);
+        }
+    }
+
+    public static List<Path> listRuns(Path directory) {
+        if (!Files.isDirectory(directory)) {
+            return List.of();
+        }
+        try (var files = Files.list(directory)) {
+            return files
+                .filter(file -> {
+                    String name = file.getFileName().toString();
+                    return name.startsWith(RUN_FILE_PREFIX) && name.endsWith(RUN_FILE_SUFFIX);
+                })
+                .sorted()
+                .toList();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to list step timing runs in " + directory, e);
+        }
+    }
+}
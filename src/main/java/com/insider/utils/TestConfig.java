@@ -0,0 +1,371 @@
+package com.insider.utils;
+
+import java.util.Arrays;
+import java.util.List;
+
+public final class TestConfig {
+
+    private TestConfig() {
+    }
+
+    public static String getBrowser() {
+        return getString("browser", "chrome");
+    }
+
+    public static String getBaseUrl() {
+        String baseUrl = getString("base.url", "https://useinsider.com");
+        return baseUrl.endsWith("/") ? baseUrl.substring(0, baseUrl.length() - 1) : baseUrl;
+    }
+
+    public static String url(String path) {
+        return getBaseUrl() + (path.startsWith("/") ? path : "/" + path);
+    }
+
+    public static boolean isLocalSiteEnabled() {
+        return getBoolean("local.site.enabled", false);
+    }
+
+    public static int getLocalSitePort() {
+        return getInt("local.site.port", 0);
+    }
+
+    public static int getLocalSiteJobCount() {
+        return getInt("local.site.jobs", 50);
+    }
+
+    public static long getLocalSiteLatencyMillis() {
+        return getLong("local.site.latency.ms", 0);
+    }
+
+    public static long getLocalSiteSeed() {
+        return getLong("local.site.seed", 42);
+    }
+
+    public static String getPageLoadStrategy() {
+        return getString("page.load.strategy", "eager").toLowerCase();
+    }
+
+    public static boolean isDriverMetricsEnabled() {
+        return getBoolean("driver.metrics.enabled", true);
+    }
+
+    public static boolean isSessionStateEnabled() {
+        return getBoolean("session.state.enabled", true);
+    }
+
+    public static String getSessionStateFile() {
+        return getString("session.state.file", "target/session-state/state.json");
+    }
+
+    public static long getSessionStateMaxAgeMinutes() {
+        return getLong("session.state.max.age.minutes", 60);
+    }
+
+    public static boolean isChromeProfileTemplateEnabled() {
+        return getBoolean("chrome.profile.template.enabled", false);
+    }
+
+    public static String getChromeProfileTemplateDir() {
+        return getString("chrome.profile.template.dir", "target/chrome-profile-template");
+    }
+
+    public static long getChromeProfileMaxMegabytes() {
+        return getLong("chrome.profile.template.max.mb", 256);
+    }
+
+    public static long getChromeProfileMaxAgeMinutes() {
+        return getLong("chrome.profile.template.max.age.minutes", 24 * 60);
+    }
+
+    public static List<String> getChromeProfileWarmUpPaths() {
+        return getList("chrome.profile.template.urls",
+            "/,/careers/,/careers/quality-assurance/,/careers/open-positions/?department=qualityassurance");
+    }
+
+    public static boolean isDriverPreWarmEnabled() {
+        return getBoolean("driver.prewarm.enabled", true);
+    }
+
+    public static int getDriverPreWarmCount() {
+        return getInt("driver.prewarm.count", isDriverPoolEnabled() ? getDriverPoolSize() : 1);
+    }
+
+    public static int getDriverPreWarmShutdownTimeoutSeconds() {
+        return getInt("driver.prewarm.shutdown.timeout.seconds", 30);
+    }
+
+    public static boolean isResourceGovernorEnabled() {
+        return getBoolean("resource.governor.enabled", true);
+    }
+
+    public static int getResourceMaxSessions() {
+        return getInt("resource.max.sessions", 0);
+    }
+
+    public static long getResourceSessionEstimateMb() {
+        return getLong("resource.session.estimate.mb", 600);
+    }
+
+    public static long getResourceMemoryReserveMb() {
+        return getLong("resource.memory.reserve.mb", 1024);
+    }
+
+    public static long getResourceAdmissionTimeoutSeconds() {
+        return getLong("resource.admission.timeout.seconds", 120);
+    }
+
+    public static String getResourceRunDir() {
+        return getString("resource.run.dir", "target/resource-governor");
+    }
+
+    public static long getResourceSampleMillis() {
+        return getLong("resource.sample.ms", 1000);
+    }
+
+    public static boolean isSharedDriverServiceEnabled() {
+        return getBoolean("driver.service.shared", true);
+    }
+
+    public static boolean isDriverPoolEnabled() {
+        return getBoolean("driver.pool.enabled", true);
+    }
+
+    public static int getDriverPoolSize() {
+        return getInt("driver.pool.size", isParallelEnabled() ? getThreadCount() : 1);
+    }
+
+    public static String getParallelMode() {
+        String mode = getString("test.parallel", "none").toLowerCase();
+        switch (mode) {
+            case "none":
+            case "methods":
+            case "classes":
+            case "tests":
+                return mode;
+            default:
+                throw new IllegalArgumentException("Unsupported parallel mode: " + mode);
+        }
+    }
+
+    public static boolean isParallelEnabled() {
+        return !"none".equals(getParallelMode());
+    }
+
+    public static int getThreadCount() {
+        int threadCount = getInt("test.thread.count", Runtime.getRuntime().availableProcessors());
+        if (threadCount < 1) {
+            throw new IllegalArgumentException("Thread count must be at least 1, was: " + threadCount);
+        }
+        return threadCount;
+    }
+
+    public static int getShardCount() {
+        int shardCount = getInt("shard.count", 1);
+        if (shardCount < 1) {
+            throw new IllegalArgumentException("Shard count must be at least 1, was: " + shardCount);
+        }
+        return shardCount;
+    }
+
+    public static int getShardIndex() {
+        return getInt("shard.index", 0);
+    }
+
+    public static String getShardHistoryFile() {
+        return getString("shard.history.file", "target/test-durations.properties");
+    }
+
+    public static String getShardDurationsOutput() {
+        return getString("shard.durations.out", getShardHistoryFile());
+    }
+
+    public static long getShardDefaultMillis() {
+        return getLong("shard.default.ms", 60_000);
+    }
+
+    public static String getShardSuiteFile() {
+        return getString("shard.suite", "src/test/resources/testng.xml");
+    }
+
+    public static String getShardOutputDir() {
+        return getString("shard.output.dir", "target/shards");
+    }
+
+    public static int getRetryMaxAttempts() {
+        return getInt("retry.max.attempts", 1);
+    }
+
+    public static int getFilterMatrixMaxCells() {
+        return getInt("filter.matrix.max.cells", isLocalSiteEnabled() ? 0 : 20);
+    }
+
+    public static long getFilterMatrixGraceMillis() {
+        return getLong("filter.matrix.grace.ms", 250);
+    }
+
+    public static boolean isDomSnapshotEnabled() {
+        return getBoolean("dom.snapshot.enabled", false);
+    }
+
+    public static long getDomSettleQuietMillis() {
+        return getLong("dom.settle.quiet.ms", 500);
+    }
+
+    public static long getDomSettleGraceMillis() {
+        return getLong("dom.settle.grace.ms", 2000);
+    }
+
+    public static boolean isNetworkBlockingEnabled() {
+        return getBoolean("network.block.enabled", true);
+    }
+
+    public static List<String> getBlockedUrlPatterns() {
+        return getList("network.block.urls", String.join(",",
+            "*google-analytics.com*", "*googletagmanager.com*", "*doubleclick.net*", "*facebook.net*",
+            "*hotjar.com*", "*clarity.ms*", "*intercom.io*", "*hs-scripts.com*", "*hs-analytics.net*",
+            "*linkedin.com/px*", "*px.ads.linkedin.com*", "*youtube.com*", "*vimeo.com*"));
+    }
+
+    public static List<String> getBlockedResourceTypes() {
+        return getList("network.block.types", "Media,Font");
+    }
+
+    public static long getWaitTimeoutSeconds() {
+        return getLong("wait.timeout.seconds", 20);
+    }
+
+    public static long getWaitInitialPollMillis() {
+        return getLong("wait.poll.initial.ms", 25);
+    }
+
+    public static long getWaitMaxPollMillis() {
+        return getLong("wait.poll.max.ms", 500);
+    }
+
+    public static double getWaitPollBackoff() {
+        return getDouble("wait.poll.backoff", 1.5);
+    }
+
+    public static long getOptionalProbeMillis() {
+        return getLong("wait.optional.probe.ms", 750);
+    }
+
+    public static String getRoleLinkTargetPattern() {
+        return getString("role.link.target.pattern", "(?i)https?://([^/]+\\.)?lever\\.co/.*|https?://[^/]+/lever/.*");
+    }
+
+    public static boolean isFailureArtifactsEnabled() {
+        return getBoolean("failure.artifacts.enabled", true);
+    }
+
+    public static String getFailureArtifactsDir() {
+        return getString("failure.artifacts.dir", "target/failure-artifacts");
+    }
+
+    public static int getFailureArtifactsMaxPerTest() {
+        return getInt("failure.artifacts.max.per.test", 3);
+    }
+
+    public static long getFailureArtifactsMaxScreenshotKb() {
+        return getLong("failure.artifacts.max.screenshot.kb", 2048);
+    }
+
+    public static long getFailureArtifactsMaxDomKb() {
+        return getLong("failure.artifacts.max.dom.kb", 1024);
+    }
+
+    public static int getFailureArtifactsRetainedRuns() {
+        return getInt("failure.artifacts.retained.runs", 5);
+    }
+
+    public static int getFailureArtifactsThreads() {
+        return getInt("failure.artifacts.threads", 2);
+    }
+
+    public static int getFailureArtifactsQueueSize() {
+        return getInt("failure.artifacts.queue.size", 16);
+    }
+
+    public static boolean isStepTimingEnabled() {
+        return getBoolean("step.timings.enabled", true);
+    }
+
+    public static String getStepTimingDir() {
+        return getString("step.timings.dir", "target/step-timings");
+    }
+
+    public static int getStepTimingHistory() {
+        return getInt("step.timings.history", 20);
+    }
+
+    public static double getStepRegressionThreshold() {
+        return getDouble("step.timings.regression.threshold", 0.3);
+    }
+
+    public static long getStepRegressionMinDeltaMillis() {
+        return getLong("step.timings.regression.min.delta.ms", 100);
+    }
+
+    public static String getString(String key, String defaultValue) {
+        String value = System.getProperty(key);
+        if (value == null || value.isBlank()) {
+            value = System.getenv(toEnvName(key));
+        }
+        return value == null || value.isBlank() ? defaultValue : value.trim();
+    }
+
+    public static boolean getBoolean(String key, boolean defaultValue) {
+        return Boolean.parseBoolean(getString(key, String.valueOf(defaultValue)));
+    }
+
+    public static int getInt(String key, int defaultValue) {
+        String value = getString(key, null);
+        if (value == null) {
+            return defaultValue;
+        }
+        try {
+            return Integer.parseInt(value);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Invalid integer value for '" + key + "': " + value, e);
+        }
+    }
+
+    public static long getLong(String key, long defaultValue) {
+        String value = getString(key, null);
+        if (value == null) {
+            return defaultValue;
+        }
+        try {
+            return Long.parseLong(value);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Invalid long value for '" + key + "': " + value, e);
+        }
+    }
+
+    public static double getDouble(String key, double defaultValue) {
+        String value = getString(key, null);
+        if (value == null) {
+            return defaultValue;
+        }
+        try {
+            return Double.parseDouble(value);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Invalid decimal value for '" + key + "': " + value, e);
+        }
+    }
+
+    public static List<String> getList(String key, String defaultValue) {
+        String value = getString(key, defaultValue);
+        if (value == null || "none".equalsIgnoreCase(value)) {
+            return List.of();
+        }
+        return Arrays.stream(value.split(","))
+            .map(String::trim)
+            .filter(item -> !item.isEmpty())
+            .toList();
+    }
+
+    private static String toEnvName(String key) {
+        return key.toUpperCase().replace('.', '_').replace('-', '_');
+    }
+}
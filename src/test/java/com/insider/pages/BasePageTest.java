@@ -0,0 +1,41 @@
+package com.insider.pages;
+
+import org.openqa.selenium.By;
+import org.testng.Assert;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+import java.util.List;
+
+public class BasePageTest {
+
+    @DataProvider
+    public Object[][] supportedLocators() {
+        return new Object[][] {
+            {By.id("career-our-location"), "id", "career-our-location"},
+            {By.cssSelector("#jobs-list > div"), "cssSelector", "#jobs-list > div"},
+            {By.className("position-list-item"), "className", "position-list-item"},
+            {By.tagName("select"), "tagName", "select"},
+            {By.name("department"), "name", "department"},
+            {By.xpath("//a[contains(text(), 'See all QA jobs')]"), "xpath", "//a[contains(text(), 'See all QA jobs')]"}
+        };
+    }
+
+    @Test(dataProvider = "supportedLocators")
+    public void testSupportedLocatorsAreSplitIntoTypeAndValue(By locator, String type, String value) {
+        Assert.assertEquals(BasePage.toScriptLocator(locator), List.of(type, value));
+    }
+
+    @DataProvider
+    public Object[][] unsupportedLocators() {
+        return new Object[][] {
+            {By.linkText("View Role")},
+            {By.partialLinkText("View")}
+        };
+    }
+
+    @Test(dataProvider = "unsupportedLocators", expectedExceptions = IllegalArgumentException.class)
+    public void testUnsupportedLocatorsAreRejected(By locator) {
+        BasePage.toScriptLocator(locator);
+    }
+}
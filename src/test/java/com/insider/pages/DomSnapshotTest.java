@@ -0,0 +1,57 @@
+package com.insider.pages;
+
+import org.openqa.selenium.By;
+import org.testng.Assert;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+public class DomSnapshotTest {
+
+    private static final String HTML = """
+        <html><body>
+          <div id="visible" class="job">Visible</div>
+          <div id="hidden-attr" hidden>Hidden attribute</div>
+          <div id="display-none" style="color: red; DISPLAY : none">Display none</div>
+          <div id="visibility-hidden" style="visibility:hidden">Visibility hidden</div>
+          <section style="display: none"><p id="inside-hidden" class="job">Inside hidden parent</p></section>
+          <section hidden><p id="inside-hidden-attr">Inside hidden attribute parent</p></section>
+          <input id="hidden-input" type="HIDDEN" name="token">
+          <input id="text-input" type="text" name="query">
+        </body></html>
+        """;
+
+    private DomSnapshot snapshot;
+
+    @BeforeClass
+    public void setUp() {
+        snapshot = DomSnapshot.parse("https://example.com/careers/", HTML);
+    }
+
+    @DataProvider
+    public Object[][] renderedElements() {
+        return new Object[][]{
+            {By.id("visible"), true},
+            {By.id("text-input"), true},
+            {By.id("hidden-attr"), false},
+            {By.id("display-none"), false},
+            {By.id("visibility-hidden"), false},
+            {By.id("inside-hidden"), false},
+            {By.id("inside-hidden-attr"), false},
+            {By.id("hidden-input"), false},
+            {By.id("missing"), false}
+        };
+    }
+
+    @Test(dataProvider = "renderedElements")
+    public void testIsPresentOnlyMatchesRenderedElements(By locator, boolean expected) {
+        Assert.assertEquals(snapshot.isPresent(locator), expected, locator.toString());
+    }
+
+    @Test
+    public void testIsPresentWhenAnyMatchIsRendered() {
+        Assert.assertEquals(snapshot.select(By.className("job")).size(), 2);
+        Assert.assertTrue(snapshot.isPresent(By.className("job")));
+        Assert.assertFalse(snapshot.isPresent(By.cssSelector("section p")));
+    }
+}
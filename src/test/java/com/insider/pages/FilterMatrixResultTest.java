@@ -0,0 +1,65 @@
+package com.insider.pages;
+
+import com.insider.pages.FilterMatrixResult.Cell;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.List;
+import java.util.Set;
+
+public class FilterMatrixResultTest {
+
+    @Test
+    public void testDisjointCellsCoverAllJobs() {
+        FilterMatrixResult result = new FilterMatrixResult(Set.of("a", "b", "c"), List.of(
+            cell("Istanbul", "QA", "a", "b"),
+            cell("Remote", "QA", "c")), true);
+
+        Assert.assertTrue(result.coversAllJobs());
+        Assert.assertEquals(result.getFilteredJobCount(), 3);
+        Assert.assertTrue(result.getUncoveredJobIds().isEmpty());
+    }
+
+    @Test
+    public void testJobListedInSeveralCellsIsCountedOnce() {
+        FilterMatrixResult result = new FilterMatrixResult(Set.of("a", "b"), List.of(
+            cell("Istanbul", "QA", "a", "b"),
+            cell("Remote", "QA", "a")), true);
+
+        Assert.assertTrue(result.coversAllJobs(), "job a is listed under two locations");
+        Assert.assertEquals(result.getFilteredJobCount(), 2);
+    }
+
+    @Test
+    public void testDuplicateCannotMaskMissingJob() {
+        FilterMatrixResult result = new FilterMatrixResult(Set.of("a", "b", "c"), List.of(
+            cell("Istanbul", "QA", "a", "b"),
+            cell("Remote", "QA", "a")), true);
+
+        Assert.assertFalse(result.coversAllJobs(), "three listings in cells but job c is never shown");
+        Assert.assertEquals(result.getUncoveredJobIds(), Set.of("c"));
+    }
+
+    @Test
+    public void testJobOutsideUnfilteredListIsNotCovered() {
+        FilterMatrixResult result = new FilterMatrixResult(Set.of("a"), List.of(cell("Istanbul", "QA", "a", "x")), true);
+
+        Assert.assertFalse(result.coversAllJobs());
+        Assert.assertTrue(result.getUncoveredJobIds().isEmpty());
+    }
+
+    @Test
+    public void testListingWithoutLinkIsIdentifiedByItsFields() {
+        JobListingSnapshot snapshot = new JobListingSnapshot(List.of(
+            new JobListingSnapshot.JobListing("QA Engineer", "Quality Assurance", "Istanbul, Turkiye", "https://jobs.lever.co/1"),
+            new JobListingSnapshot.JobListing("QA Engineer", "Quality Assurance", "Istanbul, Turkiye", null),
+            new JobListingSnapshot.JobListing("QA Engineer", "Quality Assurance", "Istanbul, Turkiye", null)));
+
+        Assert.assertEquals(snapshot.getJobIds(),
+            Set.of("https://jobs.lever.co/1", "QA Engineer | Quality Assurance | Istanbul, Turkiye"));
+    }
+
+    private static Cell cell(String location, String department, String... jobIds) {
+        return new Cell(location, department, Set.of(jobIds), List.of());
+    }
+}
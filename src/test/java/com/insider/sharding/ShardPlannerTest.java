@@ -0,0 +1,60 @@
+package com.insider.sharding;
+
+import com.insider.sharding.ShardPlanner.Shard;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+public class ShardPlannerTest {
+
+    @Test
+    public void testLongestTestsAreAssignedFirstToLightestShard() {
+        TestDurationHistory history = new TestDurationHistory(Map.of("a", 100L, "b", 80L, "c", 60L, "d", 50L, "e", 40L));
+
+        List<Shard> shards = ShardPlanner.plan(List.of("e", "d", "c", "b", "a"), 2, history, 1000);
+
+        Assert.assertEquals(shards.get(0).testKeys(), List.of("a", "d"));
+        Assert.assertEquals(shards.get(0).estimatedMillis(), 150L);
+        Assert.assertEquals(shards.get(1).testKeys(), List.of("b", "c", "e"));
+        Assert.assertEquals(shards.get(1).estimatedMillis(), 180L);
+    }
+
+    @Test
+    public void testEqualEstimatesAreSpreadInNameOrder() {
+        List<Shard> shards = ShardPlanner.plan(List.of("d", "c", "b", "a"), 3, new TestDurationHistory(Map.of()), 500);
+
+        Assert.assertEquals(shards.get(0).testKeys(), List.of("a", "d"));
+        Assert.assertEquals(shards.get(1).testKeys(), List.of("b"));
+        Assert.assertEquals(shards.get(2).testKeys(), List.of("c"));
+        Assert.assertEquals(shards.get(0).estimatedMillis(), 1000L);
+    }
+
+    @Test
+    public void testEveryTestIsAssignedExactlyOnce() {
+        List<String> testKeys = List.of("t1", "t2", "t3", "t4", "t5", "t6", "t7");
+        TestDurationHistory history = new TestDurationHistory(Map.of("t1", 700L, "t3", 20L, "t6", 300L));
+
+        List<String> assigned = new ArrayList<>();
+        ShardPlanner.plan(testKeys, 4, history, 100).forEach(shard -> assigned.addAll(shard.testKeys()));
+
+        Assert.assertEqualsNoOrder(assigned.toArray(), testKeys.toArray());
+    }
+
+    @Test
+    public void testMoreShardsThanTestsLeavesShardsEmpty() {
+        List<Shard> shards = ShardPlanner.plan(List.of("a"), 3, new TestDurationHistory(Map.of()), 100);
+
+        Assert.assertEquals(shards.size(), 3);
+        Assert.assertEquals(shards.get(0).testKeys(), List.of("a"));
+        Assert.assertTrue(shards.get(1).testKeys().isEmpty());
+        Assert.assertEquals(shards.get(2).estimatedMillis(), 0L);
+    }
+
+    @Test(expectedExceptions = IllegalArgumentException.class)
+    public void testRejectsShardCountBelowOne() {
+        ShardPlanner.plan(List.of("a"), 0, new TestDurationHistory(Map.of()), 100);
+    }
+}
@@ -0,0 +1,78 @@
+package com.insider.sharding;
+
+import org.testng.Assert;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.Map;
+import java.util.stream.Stream;
+
+public class TestDurationHistoryTest {
+
+    private Path directory;
+
+    @BeforeMethod
+    public void setUp() throws IOException {
+        directory = Files.createTempDirectory("test-durations-");
+    }
+
+    @AfterMethod(alwaysRun = true)
+    public void tearDown() throws IOException {
+        try (Stream<Path> files = Files.walk(directory)) {
+            files.sorted(Comparator.reverseOrder()).forEach(file -> file.toFile().delete());
+        }
+    }
+
+    @Test
+    public void testMissingFileLoadsEmptyHistory() {
+        TestDurationHistory history = TestDurationHistory.load(directory.resolve("missing.properties"));
+
+        Assert.assertTrue(history.getDurations().isEmpty());
+        Assert.assertEquals(history.estimate("any", 1234), 1234L);
+    }
+
+    @Test
+    public void testLoadSkipsInvalidDurations() throws IOException {
+        Path file = directory.resolve("durations.properties");
+        Files.writeString(file, String.join("\n",
+            "# comment",
+            "com.insider.tests.A.open = 1500 ",
+            "com.insider.tests.A.filter=fast",
+            "com.insider.tests.B.apply=500"), StandardCharsets.UTF_8);
+
+        TestDurationHistory history = TestDurationHistory.load(file);
+
+        Assert.assertEquals(history.getDurations(), Map.of("com.insider.tests.A.open", 1500L, "com.insider.tests.B.apply", 500L));
+    }
+
+    @Test
+    public void testUnknownTestIsEstimatedFromAverageOfKnownTests() {
+        TestDurationHistory history = new TestDurationHistory(Map.of("a", 100L, "b", 301L));
+
+        Assert.assertEquals(history.estimate("a", 5000), 100L);
+        Assert.assertEquals(history.estimate("c", 5000), 201L);
+    }
+
+    @Test
+    public void testMergeSmoothsKnownAndAddsNewDurations() {
+        TestDurationHistory history = new TestDurationHistory(Map.of("a", 100L));
+
+        history.merge(Map.of("a", 300L, "b", 50L));
+
+        Assert.assertEquals(history.getDurations(), Map.of("a", 200L, "b", 50L));
+    }
+
+    @Test
+    public void testSaveAndLoadRoundTrip() {
+        Path file = directory.resolve("nested").resolve("durations.properties");
+        new TestDurationHistory(Map.of("a", 100L, "b", 200L)).save(file);
+
+        Assert.assertEquals(TestDurationHistory.load(file).getDurations(), Map.of("a", 100L, "b", 200L));
+    }
+}
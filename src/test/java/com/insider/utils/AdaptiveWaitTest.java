@@ -0,0 +1,134 @@
+package com.insider.utils;
+
+import org.openqa.selenium.TimeoutException;
+import org.openqa.selenium.support.ui.Sleeper;
+import org.testng.Assert;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+
+public class AdaptiveWaitTest {
+
+    private FakeClock clock;
+    private List<Long> sleeps;
+    private Sleeper sleeper;
+
+    @BeforeMethod
+    public void setUp() {
+        clock = new FakeClock();
+        sleeps = new ArrayList<>();
+        sleeper = duration -> {
+            sleeps.add(duration.toMillis());
+            clock.advance(duration.toMillis());
+        };
+    }
+
+    @Test
+    public void testBackoffGrowsUntilCappedAndStopsAtTimeout() {
+        AdaptiveWait wait = newWait(Duration.ofMillis(200), 10, 40, 2.0);
+
+        Assert.assertThrows(TimeoutException.class, () -> wait.until(webDriver -> false));
+
+        Assert.assertEquals(sleeps, List.of(10L, 20L, 40L, 40L, 40L, 40L, 10L));
+        Assert.assertEquals(clock.millis(), 200L);
+    }
+
+    @Test
+    public void testReturnsAsSoonAsConditionHolds() {
+        AdaptiveWait wait = newWait(Duration.ofSeconds(5), 10, 40, 2.0);
+
+        String value = wait.until(webDriver -> clock.millis() >= 30 ? "ready" : null);
+
+        Assert.assertEquals(value, "ready");
+        Assert.assertEquals(sleeps, List.of(10L, 20L));
+    }
+
+    @Test
+    public void testLearnedLatencyIsExponentiallyWeighted() {
+        String key = uniqueKey();
+        AdaptiveWait wait = newWait(Duration.ofSeconds(5), 10, 10, 1.0);
+
+        waitUntilElapsed(wait, key, 200);
+        Assert.assertEquals(AdaptiveWait.getLearnedLatencyMillis(key), 200.0);
+
+        waitUntilElapsed(wait, key, 300);
+        Assert.assertEquals(AdaptiveWait.getLearnedLatencyMillis(key), 230.0, 0.001);
+    }
+
+    @Test
+    public void testFirstPollIsDeferredByLearnedHeadStart() {
+        String key = uniqueKey();
+        AdaptiveWait wait = newWait(Duration.ofSeconds(5), 10, 40, 2.0);
+        waitUntilElapsed(wait, key, 510);
+        Assert.assertEquals(AdaptiveWait.getLearnedLatencyMillis(key), 510.0);
+        sleeps.clear();
+
+        waitUntilElapsed(wait, key, 510);
+
+        Assert.assertEquals(sleeps.get(0), Long.valueOf(408));
+        Assert.assertEquals(sleeps.subList(1, sleeps.size()), List.of(10L, 20L, 40L, 40L));
+    }
+
+    @Test
+    public void testTimeoutInsideHeadStartWindowIsHonoured() {
+        String key = uniqueKey();
+        newWait(Duration.ofSeconds(5), 10, 40, 2.0).until(key, webDriver -> clock.millis() >= 1000);
+        sleeps.clear();
+        long start = clock.millis();
+
+        AdaptiveWait shortWait = newWait(Duration.ofMillis(50), 10, 40, 2.0);
+        Assert.assertThrows(TimeoutException.class, () -> shortWait.until(key, webDriver -> false));
+
+        Assert.assertEquals(sleeps, List.of(50L));
+        Assert.assertEquals(clock.millis() - start, 50L);
+    }
+
+    private AdaptiveWait newWait(Duration timeout, long initialPollMillis, long maxPollMillis, double backoffFactor) {
+        return new AdaptiveWait(null, timeout, initialPollMillis, maxPollMillis, backoffFactor, clock, sleeper);
+    }
+
+    private void waitUntilElapsed(AdaptiveWait wait, String key, long elapsedMillis) {
+        long start = clock.millis();
+        wait.until(key, webDriver -> clock.millis() - start >= elapsedMillis);
+    }
+
+    private static String uniqueKey() {
+        return "test-" + System.nanoTime();
+    }
+
+    private static final class FakeClock extends Clock {
+
+        private long millis;
+
+        void advance(long delta) {
+            millis += delta;
+        }
+
+        @Override
+        public long millis() {
+            return millis;
+        }
+
+        @Override
+        public Instant instant() {
+            return Instant.ofEpochMilli(millis);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+    }
+}
@@ -0,0 +1,81 @@
+package com.insider.utils;
+
+import com.insider.utils.StepTimingBaseline.StepKey;
+import com.insider.utils.StepTimingBaseline.StepRegression;
+import com.insider.utils.StepTimingBaseline.StepStats;
+import com.insider.utils.StepTimings.StepTiming;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public class StepTimingBaselineTest {
+
+    @Test
+    public void testPercentilesUseNearestRank() {
+        List<Long> durations = List.of(10L, 20L, 30L, 40L, 50L, 60L, 70L, 80L, 90L, 100L);
+
+        Assert.assertEquals(StepTimingBaseline.percentile(durations, 0.5), 50L);
+        Assert.assertEquals(StepTimingBaseline.percentile(durations, 0.95), 100L);
+        Assert.assertEquals(StepTimingBaseline.percentile(List.of(), 0.5), 0L);
+    }
+
+    @Test
+    public void testFlagsStepsSlowerThanThresholdAndMinDelta() {
+        StepTimingBaseline baseline = StepTimingBaseline.fromRuns(List.of(
+            List.of(timing("a", "open", 1000), timing("a", "filter", 100)),
+            List.of(timing("a", "open", 1000), timing("a", "filter", 100))), 20);
+
+        List<StepRegression> regressions = baseline.findRegressions(
+            List.of(timing("a", "open", 1500), timing("a", "filter", 180)), 0.3, 100);
+
+        Assert.assertEquals(regressions.size(), 1, "filter is 80% slower but only 80 ms, below the minimum delta");
+        Assert.assertEquals(regressions.get(0).key(), new StepKey("a", "open"));
+        Assert.assertEquals(regressions.get(0).getSlowdown(), 0.5, 0.001);
+    }
+
+    @Test
+    public void testIgnoresSlowdownWithinThreshold() {
+        StepTimingBaseline baseline = StepTimingBaseline.fromRuns(List.of(List.of(timing("a", "open", 1000))), 20);
+
+        Assert.assertTrue(baseline.findRegressions(List.of(timing("a", "open", 1250)), 0.3, 100).isEmpty());
+    }
+
+    @Test
+    public void testSameStepInDifferentTestsIsComparedSeparately() {
+        StepTimingBaseline baseline = StepTimingBaseline.fromRuns(List.of(
+            List.of(timing("fast", "navigate", 200)),
+            List.of(timing("slow", "navigate", 2000))), 20);
+
+        List<StepRegression> regressions = baseline.findRegressions(
+            List.of(timing("fast", "navigate", 1000), timing("slow", "navigate", 2000)), 0.3, 100);
+
+        Assert.assertEquals(regressions.size(), 1);
+        Assert.assertEquals(regressions.get(0).key(), new StepKey("fast", "navigate"));
+    }
+
+    @Test
+    public void testHistoryIsLimitedPerStepAcrossPartialRuns() {
+        List<List<StepTiming>> runs = new ArrayList<>();
+        runs.add(List.of(timing("a", "open", 900)));
+        runs.add(List.of(timing("b", "open", 100)));
+        runs.add(List.of(timing("a", "open", 100)));
+        runs.add(List.of(timing("a", "open", 100)));
+
+        StepTimingBaseline baseline = StepTimingBaseline.fromRuns(runs, 2);
+
+        StepStats a = baseline.getStats().get(new StepKey("a", "open"));
+        Assert.assertEquals(a.samples(), 2);
+        Assert.assertEquals(a.p95Millis(), 100L);
+        Assert.assertEquals(baseline.getStats().get(new StepKey("b", "open")).samples(), 1);
+        Assert.assertFalse(baseline.usesRun(0), "oldest run of test a is outside its window");
+        Assert.assertTrue(baseline.usesRun(1), "only run of test b stays in its window");
+        Assert.assertTrue(baseline.usesRun(2));
+        Assert.assertTrue(baseline.usesRun(3));
+    }
+
+    private static StepTiming timing(String test, String step, long millis) {
+        return new StepTiming(test, step, millis);
+    }
+}